@@ -1,15 +1,22 @@
 package dev.dotspace.common;
 
 import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.function.ThrowableConsumer;
+import dev.dotspace.common.function.ThrowableFunction;
 import dev.dotspace.common.response.CompletableResponse;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Methods for simplifying collections and arrays.
@@ -19,6 +26,15 @@ import java.util.concurrent.CompletableFuture;
 @NoArgsConstructor(access = AccessLevel.PRIVATE) //Block class construction.
 @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
 public final class SpaceCollections {
+  /**
+   * Maximal number of elements a worker claims at once in parallel operations.
+   */
+  private final static int MAX_CHUNK_SIZE = 1024;
+  /**
+   * Number of chunks each worker should get at least, to balance uneven work.
+   */
+  private final static int CHUNKS_PER_WORKER = 4;
+
   /**
    * Get a random object of collection.
    *
@@ -49,4 +65,109 @@ public final class SpaceCollections {
   public static <TYPE> @NotNull CompletableResponse<TYPE> randomAsync(@Nullable final Collection<TYPE> collection) {
     return new CompletableResponse<TYPE>().completeAsync(() -> SpaceCollections.random(collection)); //Complete the future in a separate thread
   }
+
+  /**
+   * Apply function to every element of collection with up to parallelism threads of the default executor. The
+   * elements are split into chunks, workers claim chunk by chunk. No task per element is submitted.
+   * <br>
+   * The result list has the same order as the collection. If function throws an error, the remaining chunks are
+   * skipped and the response is completed with the first error. Canceling the response stops the workers after their
+   * current chunk.
+   *
+   * @param collection  to map, null is handled as empty collection.
+   * @param function    to apply to every element.
+   * @param parallelism maximal number of elements in process at the same time.
+   * @param <TYPE>      generic type of {@link Collection}.
+   * @param <RESULT>    type of mapped elements.
+   * @return response completed with an unmodifiable list of all results.
+   * @throws NullPointerException     if function is null.
+   * @throws IllegalArgumentException if parallelism is lower than 1.
+   */
+  @SuppressWarnings("unchecked")
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static <TYPE, RESULT> @NotNull CompletableResponse<List<RESULT>> mapParallel(@Nullable final Collection<TYPE> collection,
+                                                                                      @Nullable final ThrowableFunction<TYPE, RESULT> function,
+                                                                                      final int parallelism) {
+    SpaceObjects.throwIfNull(function, "Given function is null.");
+    return parallelImplementation(collection, function, parallelism,
+      results -> Collections.unmodifiableList(Arrays.asList((RESULT[]) results)));
+  }
+
+  /**
+   * Run consumer for every element of collection with up to parallelism threads of the default executor.
+   * See {@link SpaceCollections#mapParallel(Collection, ThrowableFunction, int)}.
+   *
+   * @param collection  to consume, null is handled as empty collection.
+   * @param consumer    to run for every element.
+   * @param parallelism maximal number of elements in process at the same time.
+   * @param <TYPE>      generic type of {@link Collection}.
+   * @return response completed with null once every element was consumed.
+   * @throws NullPointerException     if consumer is null.
+   * @throws IllegalArgumentException if parallelism is lower than 1.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static <TYPE> @NotNull CompletableResponse<Void> forEachAsync(@Nullable final Collection<TYPE> collection,
+                                                                       @Nullable final ThrowableConsumer<TYPE> consumer,
+                                                                       final int parallelism) {
+    SpaceObjects.throwIfNull(consumer, "Given consumer is null.");
+    return parallelImplementation(collection, element -> {
+      consumer.accept(element);
+      return null;
+    }, parallelism, results -> null);
+  }
+
+  /**
+   * Implementation for {@link SpaceCollections#mapParallel(Collection, ThrowableFunction, int)} and
+   * {@link SpaceCollections#forEachAsync(Collection, ThrowableConsumer, int)}.
+   *
+   * @param collection  to process.
+   * @param function    to apply to every element.
+   * @param parallelism maximal number of workers.
+   * @param finisher    creates the value of the response from the results.
+   * @param <TYPE>      generic type of {@link Collection}.
+   * @param <RESULT>    type of the response.
+   * @return response completed with the value of finisher.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  @SuppressWarnings("unchecked")
+  private static <TYPE, RESULT> @NotNull CompletableResponse<RESULT> parallelImplementation(@Nullable final Collection<TYPE> collection,
+                                                                                            @NotNull final ThrowableFunction<TYPE, ?> function,
+                                                                                            final int parallelism,
+                                                                                            @NotNull final Function<Object[], RESULT> finisher) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1.");
+    }
+
+    final CompletableResponse<RESULT> completableResponse = new CompletableResponse<>();
+    final Object[] elements = collection == null ? new Object[0] : collection.toArray(); //Snapshot of collection.
+    if (elements.length == 0) {
+      return completableResponse.complete(finisher.apply(elements));
+    }
+
+    final int workers = Math.min(parallelism, elements.length);
+    final int chunkSize = Math.max(1, Math.min(MAX_CHUNK_SIZE, elements.length / (workers * CHUNKS_PER_WORKER)));
+    final AtomicInteger nextIndex = new AtomicInteger();
+    final AtomicInteger activeWorkers = new AtomicInteger(workers);
+
+    for (int i = 0; i < workers; i++) {
+      new CompletableResponse<Void>().completeAsync(() -> {
+        try {
+          int start;
+          while (!completableResponse.done() && (start = nextIndex.getAndAdd(chunkSize)) < elements.length) {
+            final int end = Math.min(elements.length, start + chunkSize);
+            for (int index = start; index < end; index++) {
+              elements[index] = function.apply((TYPE) elements[index]); //Result replaces element, index is only claimed once.
+            }
+          }
+        } catch (final Throwable throwable) {
+          completableResponse.completeExceptionally(throwable); //Other workers stop after their chunk.
+        }
+        if (activeWorkers.decrementAndGet() == 0) { //Last worker, array is completely written.
+          completableResponse.complete(finisher.apply(elements)); //Ignored if already completed exceptionally.
+        }
+        return null;
+      });
+    }
+    return completableResponse;
+  }
 }
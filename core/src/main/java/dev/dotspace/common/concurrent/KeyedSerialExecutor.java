@@ -0,0 +1,238 @@
+package dev.dotspace.common.concurrent;
+
+import dev.dotspace.common.SpaceObjects;
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.response.CompletableResponse;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tasks of the same key one after another, in order of submission. Tasks of different keys run in parallel on a
+ * shared pool. State that is only touched by tasks of one key needs no locks.
+ * <br>
+ * The queue of a key is created with its first task and removed once it is empty.
+ * <br>
+ * Example:
+ * <pre><code>
+ * final KeyedSerialExecutor&lt;UUID&gt; executor = new KeyedSerialExecutor&lt;&gt;();
+ *
+ * new CompletableResponse&lt;Account&gt;(executor.forKey(accountId))
+ *   .completeAsync(() -&gt; account.withdraw(10)); //Never runs at the same time as other tasks of accountId.
+ * </code></pre>
+ *
+ * @param <KEY> type of keys.
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class KeyedSerialExecutor<KEY> {
+  /**
+   * Maximal number of tasks of one key run in a row, before the pool gets the chance to run other keys.
+   */
+  private final static int MAX_TASKS_PER_DRAIN = 64;
+
+  /**
+   * Pool to run tasks with.
+   */
+  private final @NotNull ExecutorService executorService;
+  /**
+   * Queues of keys with pending or running tasks.
+   */
+  private final @NotNull Map<KEY, SerialQueue> queues;
+
+  /**
+   * Create executor that runs tasks with {@link ForkJoinPool#commonPool()}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public KeyedSerialExecutor() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Create executor.
+   *
+   * @param executorService pool to run tasks with.
+   * @throws NullPointerException if executorService is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public KeyedSerialExecutor(@Nullable final ExecutorService executorService) {
+    this.executorService = SpaceObjects.throwIfNull(executorService, "Given executorService is null.");
+    this.queues = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Run task after all previously submitted tasks of key.
+   *
+   * @param key  to run task for.
+   * @param task to run.
+   * @throws NullPointerException if key or task is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public void execute(@Nullable final KEY key,
+                      @Nullable final Runnable task) {
+    SpaceObjects.throwIfNull(key, "Given key is null.");
+    SpaceObjects.throwIfNull(task, "Given task is null.");
+
+    final boolean[] created = new boolean[1];
+    final SerialQueue queue = this.queues.compute(key, (ignored, present) -> {
+      final SerialQueue serialQueue = present == null ? new SerialQueue(key) : present;
+      created[0] = present == null;
+      serialQueue.tasks.add(task);
+      return serialQueue;
+    });
+
+    if (created[0]) { //A queue is present as long as its drain is scheduled or running.
+      queue.submit();
+    }
+  }
+
+  /**
+   * Get executor that runs every task with key. Can be used as executor of {@link CompletableResponse}.
+   * The view can not be shut down, lifecycle methods are those of the pool.
+   *
+   * @param key to run tasks for.
+   * @return view for key.
+   * @throws NullPointerException if key is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull ExecutorService forKey(@Nullable final KEY key) {
+    return new KeyView(SpaceObjects.throwIfNull(key, "Given key is null."));
+  }
+
+  /**
+   * Get number of keys with pending or running tasks.
+   *
+   * @return number of keys.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public int activeKeys() {
+    return this.queues.size();
+  }
+
+  /**
+   * Tasks of one key. Fields are only changed in compute functions of {@link KeyedSerialExecutor#queues}. The queue is
+   * mapped while its drain is submitted or running.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private final class SerialQueue {
+    private final @NotNull KEY key;
+    private final @NotNull ArrayDeque<Runnable> tasks;
+    /**
+     * Task taken from tasks, to run next.
+     */
+    private @Nullable Runnable next;
+
+    private SerialQueue(@NotNull final KEY key) {
+      this.key = key;
+      this.tasks = new ArrayDeque<>();
+    }
+
+    /**
+     * Submit drain of this queue. If the pool rejects it, the queue is removed with its tasks, otherwise no later task
+     * of the key would ever run.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the pool rejects the drain.
+     */
+    private void submit() {
+      try {
+        executorService.execute(this::drain);
+      } catch (final Throwable throwable) {
+        queues.remove(this.key, this);
+        throw throwable;
+      }
+    }
+
+    /**
+     * Run tasks until queue is empty, the queue is removed then. After {@link KeyedSerialExecutor#MAX_TASKS_PER_DRAIN}
+     * tasks drain is submitted again.
+     */
+    private void drain() {
+      boolean removed = false;
+      try {
+        for (int i = 0; i < MAX_TASKS_PER_DRAIN; i++) {
+          final Runnable task = this.poll();
+          if (task == null) {
+            removed = true;
+            return; //Queue removed.
+          }
+          try {
+            task.run();
+          } catch (final Throwable throwable) { //Following tasks of key still run.
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+          }
+        }
+      } finally {
+        if (!removed) {
+          this.submit(); //Let other keys run, also if the loop was left with an error.
+        }
+      }
+    }
+
+    /**
+     * Take next task, remove queue if there is none.
+     *
+     * @return next task, null if queue was removed.
+     */
+    private @Nullable Runnable poll() {
+      queues.compute(this.key, (ignored, present) -> {
+        this.next = this.tasks.poll();
+        if (this.next == null) {
+          return null; //Reclaim idle queue.
+        }
+        return present;
+      });
+      return this.next;
+    }
+  }
+
+  /**
+   * {@link ExecutorService} view of one key.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private final class KeyView extends AbstractExecutorService {
+    private final @NotNull KEY key;
+
+    private KeyView(@NotNull final KEY key) {
+      this.key = key;
+    }
+
+    @Override
+    public void execute(@NotNull final Runnable command) {
+      KeyedSerialExecutor.this.execute(this.key, command);
+    }
+
+    @Override
+    public void shutdown() {
+      throw new UnsupportedOperationException("View of key can not be shut down.");
+    }
+
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+      throw new UnsupportedOperationException("View of key can not be shut down.");
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return executorService.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout,
+                                    @NotNull final TimeUnit unit) throws InterruptedException {
+      return executorService.awaitTermination(timeout, unit);
+    }
+  }
+}
@@ -0,0 +1,305 @@
+package dev.dotspace.common.concurrent;
+
+import dev.dotspace.common.SpaceObjects;
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.response.CompletableResponse;
+import dev.dotspace.common.response.LatencyTracker;
+import dev.dotspace.common.response.Priority;
+import dev.dotspace.common.response.PriorityExecutor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executor with a fixed number of threads that runs tasks by {@link Priority}. Tasks of the same priority run in order
+ * of submission.
+ * <br>
+ * Queued tasks age: a task counts as submitted one aging period later for every level it is below
+ * {@link Priority#HIGH}. A {@link Priority#LOW} task therefore runs before {@link Priority#HIGH} tasks submitted more
+ * than two aging periods after it, so low priority work still progresses under a flood of high priority work.
+ * <br>
+ * The time tasks wait in the queue is recorded per priority, see {@link PriorityExecutorService#waitTracker(Priority)}.
+ * <br>
+ * Example:
+ * <pre><code>
+ * final PriorityExecutorService executor = new PriorityExecutorService(8, Duration.ofMillis(100));
+ *
+ * new CompletableResponse&lt;Page&gt;(executor).completeAsync(() -&gt; render(request), Priority.HIGH);
+ * new CompletableResponse&lt;Report&gt;(executor).completeAsync(() -&gt; export(), Priority.LOW);
+ * </code></pre>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class PriorityExecutorService extends AbstractExecutorService implements PriorityExecutor {
+  private final static @NotNull Priority[] PRIORITIES = Priority.values();
+
+  /**
+   * Time a queued task gains per priority level.
+   */
+  private final long agingNanos;
+  /**
+   * Queue of every priority, index is the ordinal. Only accessed with lock.
+   */
+  private final @NotNull ArrayDeque<PriorityTask>[] queues;
+  /**
+   * Queue wait times of every priority, index is the ordinal.
+   */
+  private final @NotNull LatencyTracker[] waitTrackers;
+  private final @NotNull Thread[] workers;
+  private final @NotNull ReentrantLock lock;
+  private final @NotNull Condition notEmpty;
+  private volatile boolean shutdown;
+
+  /**
+   * Create executor and start its threads.
+   *
+   * @param threads number of worker threads.
+   * @param aging   time a queued task gains per priority level.
+   * @throws NullPointerException     if aging is null.
+   * @throws IllegalArgumentException if threads or aging is not positive.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @SuppressWarnings("unchecked")
+  public PriorityExecutorService(final int threads,
+                                 @Nullable final Duration aging) {
+    this.agingNanos = SpaceObjects.throwIfNull(aging, "Given aging is null.").toNanos();
+    if (threads <= 0 || this.agingNanos <= 0) {
+      throw new IllegalArgumentException("Threads and aging must be positive.");
+    }
+    this.queues = (ArrayDeque<PriorityTask>[]) new ArrayDeque<?>[PRIORITIES.length];
+    this.waitTrackers = new LatencyTracker[PRIORITIES.length];
+    for (int i = 0; i < PRIORITIES.length; i++) {
+      this.queues[i] = new ArrayDeque<>();
+      this.waitTrackers[i] = new LatencyTracker();
+    }
+    this.lock = new ReentrantLock();
+    this.notEmpty = this.lock.newCondition();
+
+    this.workers = new Thread[threads];
+    for (int i = 0; i < threads; i++) {
+      this.workers[i] = new Thread(this::work, "priority-executor-" + (i + 1));
+      this.workers[i].start();
+    }
+  }
+
+  /**
+   * Run command with {@link Priority#NORMAL}.
+   *
+   * @param command to run.
+   * @throws RejectedExecutionException if executor is shut down.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public void execute(@NotNull final Runnable command) {
+    this.execute(command, Priority.NORMAL);
+  }
+
+  /**
+   * Run command with priority. Used by {@link CompletableResponse#completeAsync(dev.dotspace.common.function.ThrowableSupplier, Priority)}.
+   *
+   * @param command  to run.
+   * @param priority of command, {@link Priority#NORMAL} if null.
+   * @throws NullPointerException       if command is null.
+   * @throws RejectedExecutionException if executor is shut down.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public void execute(@Nullable final Runnable command,
+                      @Nullable final Priority priority) {
+    SpaceObjects.throwIfNull(command, "Given command is null.");
+    final Priority localPriority = priority == null ? Priority.NORMAL : priority;
+    final PriorityTask task = new PriorityTask(command, localPriority, System.nanoTime());
+
+    this.lock.lock();
+    try {
+      if (this.shutdown) {
+        throw new RejectedExecutionException("Executor is shut down.");
+      }
+      this.queues[localPriority.ordinal()].add(task);
+      this.notEmpty.signal();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Get queue wait times of priority.
+   *
+   * @param priority to get wait times of.
+   * @return tracker of the latest wait times in nanoseconds.
+   * @throws NullPointerException if priority is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull LatencyTracker waitTracker(@Nullable final Priority priority) {
+    return this.waitTrackers[SpaceObjects.throwIfNull(priority, "Given priority is null.").ordinal()];
+  }
+
+  /**
+   * Get number of queued tasks of priority.
+   *
+   * @param priority to count tasks of.
+   * @return number of tasks.
+   * @throws NullPointerException if priority is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public int queued(@Nullable final Priority priority) {
+    SpaceObjects.throwIfNull(priority, "Given priority is null.");
+    this.lock.lock();
+    try {
+      return this.queues[priority.ordinal()].size();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Loop of a worker thread, runs tasks until executor is shut down and queues are empty.
+   */
+  private void work() {
+    while (true) {
+      final PriorityTask task;
+      this.lock.lock();
+      try {
+        PriorityTask next;
+        while ((next = this.poll()) == null) {
+          if (this.shutdown) {
+            return; //Nothing left to run.
+          }
+          this.notEmpty.awaitUninterruptibly();
+        }
+        task = next;
+      } finally {
+        this.lock.unlock();
+      }
+
+      this.waitTrackers[task.priority.ordinal()].record(System.nanoTime() - task.submittedNanos);
+      try {
+        task.runnable.run();
+      } catch (final Throwable throwable) { //Workers are never replaced, survive errors too.
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+      }
+    }
+  }
+
+  /**
+   * Take the head with the earliest aged submission time. Has to be called with lock.
+   *
+   * @return next task, null if every queue is empty.
+   */
+  private @Nullable PriorityTask poll() {
+    ArrayDeque<PriorityTask> best = null;
+    long bestNanos = 0;
+    for (int i = 0; i < this.queues.length; i++) {
+      final PriorityTask head = this.queues[i].peek();
+      if (head == null) {
+        continue;
+      }
+      final long agedNanos = head.submittedNanos + i * this.agingNanos; //Lower priorities count as submitted later.
+      if (best == null || agedNanos - bestNanos < 0) {
+        best = this.queues[i];
+        bestNanos = agedNanos;
+      }
+    }
+    return best == null ? null : best.poll();
+  }
+
+  /**
+   * Reject new tasks, queued tasks are still run.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public void shutdown() {
+    this.lock.lock();
+    try {
+      this.shutdown = true;
+      this.notEmpty.signalAll(); //Idle workers exit.
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Reject new tasks, remove queued ones and interrupt workers.
+   *
+   * @return removed tasks.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public @NotNull List<Runnable> shutdownNow() {
+    final List<Runnable> removed = new ArrayList<>();
+    this.lock.lock();
+    try {
+      this.shutdown = true;
+      for (final ArrayDeque<PriorityTask> queue : this.queues) {
+        PriorityTask task;
+        while ((task = queue.poll()) != null) {
+          removed.add(task.runnable);
+        }
+      }
+      this.notEmpty.signalAll();
+    } finally {
+      this.lock.unlock();
+    }
+    for (final Thread worker : this.workers) {
+      worker.interrupt();
+    }
+    return removed;
+  }
+
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public boolean isShutdown() {
+    return this.shutdown;
+  }
+
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public boolean isTerminated() {
+    if (!this.shutdown) {
+      return false;
+    }
+    for (final Thread worker : this.workers) {
+      if (worker.isAlive()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public boolean awaitTermination(final long timeout,
+                                  @NotNull final TimeUnit unit) throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    for (final Thread worker : this.workers) {
+      final long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return this.isTerminated();
+      }
+      TimeUnit.NANOSECONDS.timedJoin(worker, remaining);
+    }
+    return this.isTerminated();
+  }
+
+  /**
+   * Queued task.
+   *
+   * @param runnable       to run.
+   * @param priority       of task.
+   * @param submittedNanos {@link System#nanoTime()} of submission.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private record PriorityTask(@NotNull Runnable runnable,
+                              @NotNull Priority priority,
+                              long submittedNanos) {
+  }
+}
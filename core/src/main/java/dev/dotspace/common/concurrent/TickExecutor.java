@@ -0,0 +1,258 @@
+package dev.dotspace.common.concurrent;
+
+import dev.dotspace.common.SpaceObjects;
+import dev.dotspace.common.SpaceTime;
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.response.CompletableResponse;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor for a fixed rate main loop. Tasks are queued from any thread and run by the loop thread when it calls
+ * {@link TickExecutor#tick()}. Each tick runs tasks until the time budget is used, remaining tasks wait for the next
+ * tick.
+ * <br>
+ * Example:
+ * <pre><code>
+ * final TickExecutor mainThread = new TickExecutor(Duration.ofMillis(5));
+ *
+ * loadAsync().ifPresentAsync(value -&gt; world.apply(value)); //Would run on any pool thread.
+ * new CompletableResponse&lt;Value&gt;(mainThread).completeAsync(...); //Runs in the tick loop.
+ *
+ * while (running) { //Tick loop.
+ *   ...
+ *   mainThread.tick();
+ * }
+ * </code></pre>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class TickExecutor extends AbstractExecutorService {
+  /**
+   * Time one tick may spend with tasks in nanoseconds.
+   */
+  private final long budgetNanos;
+  /**
+   * Tasks waiting for a tick.
+   */
+  private final @NotNull Queue<Runnable> tasks;
+  /**
+   * Number of tasks in {@link TickExecutor#tasks}, size of queue is not constant time.
+   */
+  private final @NotNull AtomicInteger backlog;
+  private final @NotNull AtomicLong ticks;
+  private final @NotNull AtomicLong overruns;
+  private final @NotNull AtomicLong maxOverrunNanos;
+  private volatile long lastTickNanos;
+  private volatile boolean shutdown;
+
+  /**
+   * Create executor.
+   *
+   * @param budget time one tick may spend with tasks.
+   * @throws NullPointerException     if budget is null.
+   * @throws IllegalArgumentException if budget is not positive.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public TickExecutor(@Nullable final Duration budget) {
+    this(SpaceObjects.throwIfNull(budget, "Given budget is null.").toNanos());
+  }
+
+  /**
+   * Create executor.
+   *
+   * @param budgetNanos time one tick may spend with tasks in nanoseconds.
+   * @throws IllegalArgumentException if budgetNanos is not positive.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public TickExecutor(final long budgetNanos) {
+    if (budgetNanos <= 0) {
+      throw new IllegalArgumentException("Budget must be positive.");
+    }
+    this.budgetNanos = budgetNanos;
+    this.tasks = new ConcurrentLinkedQueue<>();
+    this.backlog = new AtomicInteger();
+    this.ticks = new AtomicLong();
+    this.overruns = new AtomicLong();
+    this.maxOverrunNanos = new AtomicLong();
+  }
+
+  /**
+   * Run queued tasks until the budget is used. Has to be called by the loop thread once per tick. At least one task is
+   * run per tick, so a task longer than the budget can not block the queue.
+   * <br>
+   * Errors of tasks are given to the uncaught exception handler of the thread, the tick continues.
+   *
+   * @return number of tasks run.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public int tick() {
+    final SpaceTime.Timestamp timestamp = SpaceTime.timestampNow();
+    int executed = 0;
+
+    Runnable task;
+    while ((executed == 0 || timestamp.pastTime() < this.budgetNanos) && (task = this.tasks.poll()) != null) {
+      this.backlog.decrementAndGet();
+      executed++;
+      try {
+        task.run();
+      } catch (final Throwable throwable) { //Loop thread must survive, also errors.
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+      }
+    }
+
+    final long tickNanos = timestamp.pastTime();
+    this.lastTickNanos = tickNanos;
+    this.ticks.incrementAndGet();
+    if (tickNanos > this.budgetNanos) {
+      this.overruns.incrementAndGet();
+      this.maxOverrunNanos.accumulateAndGet(tickNanos - this.budgetNanos, Math::max);
+    }
+
+    if (this.shutdown && this.backlog.get() == 0) {
+      synchronized (this) {
+        this.notifyAll(); //Wake up awaitTermination.
+      }
+    }
+    return executed;
+  }
+
+  /**
+   * Get number of tasks waiting for a tick.
+   *
+   * @return number of tasks.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public int backlog() {
+    return this.backlog.get();
+  }
+
+  /**
+   * Get number of ticks.
+   *
+   * @return number of {@link TickExecutor#tick()} calls.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public long ticks() {
+    return this.ticks.get();
+  }
+
+  /**
+   * Get number of ticks that took longer than the budget.
+   *
+   * @return number of ticks.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public long overruns() {
+    return this.overruns.get();
+  }
+
+  /**
+   * Get largest time a tick took longer than the budget.
+   *
+   * @return time in nanoseconds, 0 if no tick overran.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public long maxOverrunNanos() {
+    return this.maxOverrunNanos.get();
+  }
+
+  /**
+   * Get time of the last tick.
+   *
+   * @return time in nanoseconds.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public long lastTickNanos() {
+    return this.lastTickNanos;
+  }
+
+  /**
+   * Queue command for the next tick. Can be used as executor of {@link CompletableResponse}.
+   *
+   * @param command to run in the loop thread.
+   * @throws RejectedExecutionException if executor is shut down.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public void execute(@NotNull final Runnable command) {
+    SpaceObjects.throwIfNull(command, "Given command is null.");
+    if (this.shutdown) {
+      throw new RejectedExecutionException("Executor is shut down.");
+    }
+    this.backlog.incrementAndGet();
+    this.tasks.add(command);
+  }
+
+  /**
+   * Reject new tasks, queued tasks are still run by the next ticks.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public void shutdown() {
+    this.shutdown = true;
+  }
+
+  /**
+   * Reject new tasks and remove queued ones.
+   *
+   * @return removed tasks.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public @NotNull List<Runnable> shutdownNow() {
+    this.shutdown = true;
+    final List<Runnable> removed = new ArrayList<>();
+    Runnable task;
+    while ((task = this.tasks.poll()) != null) {
+      this.backlog.decrementAndGet();
+      removed.add(task);
+    }
+    synchronized (this) {
+      this.notifyAll();
+    }
+    return removed;
+  }
+
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public boolean isShutdown() {
+    return this.shutdown;
+  }
+
+  /**
+   * Check if executor is shut down and every queued task was run. The task of a running tick could still be in
+   * process.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public boolean isTerminated() {
+    return this.shutdown && this.backlog.get() == 0;
+  }
+
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public synchronized boolean awaitTermination(final long timeout,
+                                               @NotNull final TimeUnit unit) throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (!this.isTerminated()) {
+      final long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+    }
+    return true;
+  }
+}
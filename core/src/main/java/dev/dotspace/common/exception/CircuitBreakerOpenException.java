@@ -0,0 +1,33 @@
+package dev.dotspace.common.exception;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This Exception is a {@link RuntimeException}.
+ * <br>
+ * The {@link CircuitBreakerOpenException} is used if a call is rejected because a circuit breaker does not permit it.
+ * Use cases:
+ * <ul>
+ *   <li>Complete a {@link dev.dotspace.common.response.Response} of an open
+ *   {@link dev.dotspace.common.response.ResponseCircuitBreaker} without executing it.</li>
+ * </ul>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public class CircuitBreakerOpenException extends RuntimeException {
+  /**
+   * Creates an instance with message.
+   *
+   * @param message error message. Can be obtained with {@link Exception#getMessage()}.
+   */
+  public CircuitBreakerOpenException(@Nullable final String message) {
+    super(message);
+  }
+
+  /**
+   * Standard constructor.
+   */
+  public CircuitBreakerOpenException() {
+    super();
+  }
+}
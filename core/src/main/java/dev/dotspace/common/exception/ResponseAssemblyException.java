@@ -0,0 +1,41 @@
+package dev.dotspace.common.exception;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This Exception is a {@link RuntimeException}.
+ * <br>
+ * The {@link ResponseAssemblyException} is never thrown, it is added as suppressed exception to errors of response
+ * stages. Its stack trace is the place the stage was registered at, not the place the error occurred.
+ * Use cases:
+ * <ul>
+ *   <li>Show where a failed map or filter stage was assembled, see
+ *   {@link dev.dotspace.common.response.ResponseAssembly}.</li>
+ * </ul>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public class ResponseAssemblyException extends RuntimeException {
+  /**
+   * Creates an instance with message and a captured stack trace.
+   *
+   * @param message    error message. Can be obtained with {@link Exception#getMessage()}.
+   * @param stackTrace frames of the assembly site.
+   */
+  public ResponseAssemblyException(@Nullable final String message,
+                                   @NotNull final StackTraceElement[] stackTrace) {
+    super(message, null, false, true);
+    this.setStackTrace(stackTrace);
+  }
+
+  /**
+   * Stack trace is given on creation, there is no need to walk the current stack.
+   *
+   * @return this exception.
+   */
+  @Override
+  public synchronized @NotNull Throwable fillInStackTrace() {
+    return this;
+  }
+}
@@ -0,0 +1,34 @@
+package dev.dotspace.common.exception;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This Exception is a {@link RuntimeException}.
+ * <br>
+ * The {@link ResponseLeakException} is used to report a response that was never completed. The stack trace of the
+ * exception is the stack trace of the creation of the response.
+ * Use cases:
+ * <ul>
+ *   <li>Report a {@link dev.dotspace.common.response.CompletableResponse} that was garbage collected while
+ *   uncompleted, see {@link dev.dotspace.common.response.ResponseLeakDetector}.</li>
+ * </ul>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public class ResponseLeakException extends RuntimeException {
+  /**
+   * Creates an instance with message.
+   *
+   * @param message error message. Can be obtained with {@link Exception#getMessage()}.
+   */
+  public ResponseLeakException(@Nullable final String message) {
+    super(message);
+  }
+
+  /**
+   * Standard constructor.
+   */
+  public ResponseLeakException() {
+    super();
+  }
+}
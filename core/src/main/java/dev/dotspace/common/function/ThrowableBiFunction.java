@@ -0,0 +1,23 @@
+package dev.dotspace.common.function;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiFunction;
+
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+@FunctionalInterface
+public interface ThrowableBiFunction<T, U, R> {
+  /**
+   * Function with two given values and get value. Similar to {@link BiFunction#apply(Object, Object)}.
+   *
+   * @param t to give as first value.
+   * @param u to give as second value.
+   * @return to get as end value.
+   * @throws Throwable if something throws error in function.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Nullable R apply(@Nullable final T t,
+                    @Nullable final U u) throws Throwable;
+
+}
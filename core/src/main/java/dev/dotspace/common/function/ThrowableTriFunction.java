@@ -0,0 +1,23 @@
+package dev.dotspace.common.function;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import org.jetbrains.annotations.Nullable;
+
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+@FunctionalInterface
+public interface ThrowableTriFunction<T, U, V, R> {
+  /**
+   * Function with three given values and get value. Similar to {@link ThrowableBiFunction#apply(Object, Object)}.
+   *
+   * @param t to give as first value.
+   * @param u to give as second value.
+   * @param v to give as third value.
+   * @return to get as end value.
+   * @throws Throwable if something throws error in function.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Nullable R apply(@Nullable final T t,
+                    @Nullable final U u,
+                    @Nullable final V v) throws Throwable;
+
+}
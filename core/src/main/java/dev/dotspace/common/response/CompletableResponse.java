@@ -1,23 +1,31 @@
 package dev.dotspace.common.response;
 
-import dev.dotspace.common.SpaceArrays;
 import dev.dotspace.common.SpaceObjects;
 import dev.dotspace.common.SpaceThrowable;
+import dev.dotspace.common.SpaceTime;
 import dev.dotspace.common.annotation.LibraryInformation;
 import dev.dotspace.common.exception.MismatchException;
 import dev.dotspace.common.function.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 @SuppressWarnings("unused") //Some methods are meant to be for the library -> Suppress idea warnings.
@@ -26,13 +34,35 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   /**
    * ExecutorService for async response functions.
    */
-  private final static @NotNull ExecutorService DEFAULT_SERVICE = Executors.newCachedThreadPool();
+  private final static @NotNull ExecutorService DEFAULT_SERVICE = createDefaultService();
+  /**
+   * Result of responses completed with null.
+   */
+  private final static @NotNull Object NULL_RESULT = new Object();
+  /**
+   * Result of canceled responses.
+   */
+  private final static @NotNull AltResult CANCELLED_RESULT = new AltResult(State.CANCELLED, null);
+  /**
+   * Relays of flat mapped responses queued on the current thread, null if no relay is running.
+   */
+  private final static @NotNull ThreadLocal<ArrayDeque<Runnable>> RELAYS = new ThreadLocal<>();
+  /**
+   * Bitmask of every completed {@link State}.
+   */
+  private final static int DONE_MASK = State.CANCELLED.mask() | State.COMPLETED_DEFAULT.mask() | State.COMPLETED_NULL.mask() | State.COMPLETED_EXCEPTIONALLY.mask();
 
   private final @NotNull ExecutorService service;
-  private volatile @NotNull State state;
-  private volatile @Nullable TYPE response;
-  private volatile @Nullable Throwable throwable;
-  private volatile @NotNull ResponseFunction<?>[] responseFunctions;
+  /**
+   * State and value in one field: null while uncompleted, {@link CompletableResponse#NULL_RESULT} if completed with
+   * null, {@link AltResult} if completed exceptionally or canceled, otherwise the value itself.
+   */
+  private volatile @Nullable Object result;
+  /**
+   * Last registered stage, linked to the previous ones with {@link ResponseFunctionExecutor#next}. Null until the first
+   * one is registered.
+   */
+  private volatile @Nullable ResponseFunctionExecutor stages;
 
 
   /**
@@ -40,7 +70,8 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
    */
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   public CompletableResponse() {
-    this(State.UNCOMPLETED, DEFAULT_SERVICE);
+    this.service = DEFAULT_SERVICE;
+    ResponseLeakDetector.track(this);
   }
 
   /**
@@ -50,7 +81,8 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
    */
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.8")
   public CompletableResponse(@Nullable final ExecutorService service) {
-    this(State.UNCOMPLETED, service == null ? DEFAULT_SERVICE : service); /* Use default service if given service is null.*/
+    this.service = service == null ? DEFAULT_SERVICE : service; /* Use default service if given service is null.*/
+    ResponseLeakDetector.track(this);
   }
 
   /**
@@ -64,19 +96,6 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
     this();
   }
 
-  /**
-   * Create instance with defined state.
-   *
-   * @param state to set as start {@link State}.
-   */
-  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
-  private CompletableResponse(@NotNull final State state,
-                              @NotNull final ExecutorService service) {
-    this.state = state;
-    this.service = service;
-    this.responseFunctions = new ResponseFunction[0];
-  }
-
   /**
    * @see Response#newUncompleted()
    */
@@ -139,7 +158,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
      * Get content and hold thread until content.
      */
     @Nullable final TYPE content = this.get();
-    final Throwable throwable = this.throwable;
+    final Throwable throwable = this.throwable();
 
     /*
      * Throw exception.
@@ -194,20 +213,24 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
    * @return returns the completed value of this answer.
    * @throws InterruptedException if the process was interrupted in time. (timestamp of nanoTimeout reached).
    */
-  @LibraryInformation(state = LibraryInformation.State.WORK_IN_PROGRESS, access = LibraryInformation.Access.INTERNAL, since = "1.0.6")
+  @LibraryInformation(state = LibraryInformation.State.WORK_IN_PROGRESS, access = LibraryInformation.Access.INTERNAL, since = "1.0.6", updated = "1.0.9")
   private @Nullable TYPE getImplementation(final long nanoTimeout) throws InterruptedException {
-    final boolean unlimited = nanoTimeout < 0; //True if there is no limit.
-    final long interruptTime = unlimited ? Long.MAX_VALUE : System.nanoTime() + (nanoTimeout == 0 ? 1 /*Smallest value.*/ : nanoTimeout);
-
-    while (!this.done()) {
-      if (this.canceled()) { //Cancels when the response is canceled.
-        break;
+    if (!this.done()) {
+      final boolean unlimited = nanoTimeout < 0; //True if there is no limit.
+      final Waiter waiter = new Waiter(this, unlimited ? 0 : System.nanoTime() + (nanoTimeout == 0 ? 1 /*Smallest value.*/ : nanoTimeout), unlimited);
+      final boolean tracked = ResponseWatchdog.blockStarted();
+      try {
+        ForkJoinPool.managedBlock(waiter); //Pool compensates blocked worker, if called from a ForkJoinPool.
+      } finally {
+        if (tracked) {
+          ResponseWatchdog.blockEnded();
+        }
       }
-      if (System.nanoTime() >= interruptTime) { //Throws an error when the time point is reached.
+      if (waiter.timedOut) { //Throws an error when the time point is reached.
         throw this.completeExceptionallyImplementation(new InterruptedException("No value present!"));
       }
     }
-    return this.response; //Returns the value of the class.
+    return this.response(); //Returns the value of the class.
   }
 
   /**
@@ -216,8 +239,9 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   @Override
   public synchronized @Nullable TYPE getNow(@Nullable ThrowableSupplier<TYPE> alternativeValue) throws Throwable {
-    if (this.response != null) { //Response is completed.
-      return this.response; //Response.
+    final TYPE response = this.response();
+    if (response != null) { //Response is completed.
+      return response; //Response.
     }
 
     TYPE alternative = null; //Create variable.
@@ -239,11 +263,11 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
   @Override
   public synchronized boolean cancel() {
-    if (this.state.done()) {
+    if (this.done()) {
       return false;
     }
-    //this.throwable = new InterruptedException("Response canceled.");
-    this.markAsCompleted(State.CANCELLED);
+    this.result = CANCELLED_RESULT;
+    this.markAsCompleted();
     return true;
   }
 
@@ -263,13 +287,23 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   @Override
   public @NotNull CompletableResponse<TYPE> completeAsync(@Nullable ThrowableSupplier<TYPE> typeSupplier) {
+    return this.completeAsync(typeSupplier, null);
+  }
+
+  /**
+   * @see Response#completeAsync(ThrowableSupplier, Priority)
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public @NotNull CompletableResponse<TYPE> completeAsync(@Nullable ThrowableSupplier<TYPE> typeSupplier,
+                                                          @Nullable Priority priority) {
     this.execute(() -> {
       try {
         this.completeImplementation(SpaceObjects.throwIfNull(typeSupplier).get()); //Default completion without error.
       } catch (final Throwable throwable) { //Otherwise handle error.
         this.completeExceptionallyImplementation(throwable); //Error was thrown in typeSupplier or the given type supplier is null.
       }
-    });
+    }, priority);
     return this;
   }
 
@@ -283,6 +317,26 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
     return this;
   }
 
+  /**
+   * Complete this response with value once timestamp is reached. The timestamp is compared to {@link System#nanoTime()},
+   * like {@link SpaceTime#timestampNow()}. The completion is handed from the timer thread to the executor of this
+   * response, stages never run on the timer thread. A timestamp in the past completes the response as soon as possible.
+   * <br>
+   * If this response is completed otherwise before, the scheduled completion is dropped.
+   *
+   * @param timestamp to complete this response at.
+   * @param value     to complete this response with.
+   * @return this instance.
+   * @throws NullPointerException if timestamp is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull CompletableResponse<TYPE> completeAt(@Nullable final SpaceTime.Timestamp timestamp,
+                                                       @Nullable final TYPE value) {
+    final long delayNanos = SpaceObjects.throwIfNull(timestamp, "Given timestamp is null.").timestamp() - System.nanoTime();
+    this.scheduleImplementation(() -> this.execute(() -> this.completeImplementation(value)) /*Complete with executor, not timer.*/, delayNanos);
+    return this;
+  }
+
   /**
    * @see Response#completeExceptionallyAsync(ThrowableSupplier)
    */
@@ -301,28 +355,71 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
 
   @LibraryInformation(state = LibraryInformation.State.WORK_IN_PROGRESS, access = LibraryInformation.Access.INTERNAL, since = "1.0.6")
   private synchronized void completeImplementation(@Nullable final TYPE completeResponse) {
-    if (this.state.done()) {
+    if (this.done()) {
       return; //Return if done.
     }
-    this.response = completeResponse;
-    this.markAsCompleted(completeResponse != null ? State.COMPLETED_DEFAULT : State.COMPLETED_NULL);
+    this.result = completeResponse != null ? completeResponse : NULL_RESULT;
+    this.markAsCompleted();
   }
 
   @LibraryInformation(state = LibraryInformation.State.WORK_IN_PROGRESS, access = LibraryInformation.Access.INTERNAL, since = "1.0.6")
   private synchronized <ERROR extends Throwable> @Nullable ERROR completeExceptionallyImplementation(@Nullable final ERROR throwable) {
-    if (!this.state.done()) {
-      this.throwable = throwable;
-      this.markAsCompleted(State.COMPLETED_EXCEPTIONALLY);
+    if (!this.done()) {
+      this.result = new AltResult(State.COMPLETED_EXCEPTIONALLY, throwable);
+      this.markAsCompleted();
     }
     return throwable;
   }
 
-  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
-  private void markAsCompleted(@NotNull final State state) {
-    this.state = state;
+  /**
+   * Run all registered functions in order of registration, result has to be set before. Synchronous functions run in
+   * the completing thread, consecutive asynchronous functions are grouped into as few tasks as possible.
+   */
+  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.9")
+  private void markAsCompleted() {
+    this.notifyAll(); //Wake up threads waiting in getImplementation.
+
+    ResponseFunctionExecutor stage = this.stages;
+    if (stage == null) {
+      return; //Nothing registered.
+    }
+    this.stages = null; //Stages are not needed anymore.
+
+    int count = 0;
+    for (ResponseFunctionExecutor counted = stage; counted != null; counted = counted.next) {
+      count++;
+    }
+    final ResponseFunctionExecutor[] functions = new ResponseFunctionExecutor[count];
+    for (int i = count - 1; i >= 0; i--) { //Stages are linked newest first, run in order of registration.
+      functions[i] = stage;
+      stage = stage.next;
+      functions[i].next = null;
+    }
 
-    for (final ResponseFunction<?> executor : this.responseFunctions) {
-      executor.run(this.service());
+    final ExecutorService service = this.service();
+    final Object result = this.result;
+    final State state = stateOf(result);
+    final Runnable[] asyncRunnables = new Runnable[functions.length];
+    int asyncCount = 0;
+
+    for (final ResponseFunctionExecutor function : functions) {
+      final boolean async = function.async(service); //Decided once, the cost of adaptive stages can change meanwhile.
+      final Runnable runnable = function.trigger(state, result);
+      if (runnable == null) {
+        continue; //Stage does not run for this state.
+      }
+      if (async) {
+        asyncRunnables[asyncCount++] = runnable;
+        continue;
+      }
+      if (asyncCount > 0) { //Submit earlier asynchronous stages before this one runs.
+        ResponseFunctionExecutor.dispatch(service, asyncRunnables, asyncCount);
+        asyncCount = 0;
+      }
+      runnable.run();
+    }
+    if (asyncCount > 0) {
+      ResponseFunctionExecutor.dispatch(service, asyncRunnables, asyncCount);
     }
   }
 
@@ -346,6 +443,18 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
     return this;
   }
 
+  /**
+   * @see Response#sniffAdaptive(ResponseConsumer)
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public @NotNull CompletableResponse<TYPE> sniffAdaptive(@Nullable ResponseConsumer<TYPE> responseConsumer) {
+    if (responseConsumer != null) {
+      this.implementExecutor(new SniffStage<>(responseConsumer, true).adaptive(responseConsumer));
+    }
+    return this;
+  }
+
   /**
    * Implementation for sniffing methods.
    *
@@ -367,15 +476,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
       return; //Return if null. Ignore request
     }
 
-    this.implementExecutor(new ResponseFunctionExecutor<>(
-      () -> {
-        try { //Catch possible errors from runnable.
-          responseConsumer.accept(this.state, this.response, this.throwable);
-        } catch (final Throwable throwable) {
-          //Error while sniff
-          throwable.printStackTrace(); //Print errors.
-        }
-      }, async));
+    this.implementExecutor(new SniffStage<>(responseConsumer, async));
   }
 
   /**
@@ -398,6 +499,18 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
     return this;
   }
 
+  /**
+   * @see Response#runAdaptive(ThrowableRunnable)
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public @NotNull Response<TYPE> runAdaptive(@Nullable ThrowableRunnable runnable) {
+    if (runnable != null) {
+      this.implementExecutor(new RunStage(runnable, DONE_MASK, true).adaptive(runnable));
+    }
+    return this;
+  }
+
   /**
    * Implementation to execute {@link ThrowableRunnable} if completed.
    * <br>
@@ -419,14 +532,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
       return; //Return, runnable is null means there is no function to run.
     }
 
-    this.implementExecutor(new ResponseFunctionExecutor<>( //Create new executor instance.
-      () -> {
-        try { //Catch possible errors from runnable.
-          runnable.run(); //Execute runnable.
-        } catch (final Throwable throwable) {
-          throwable.printStackTrace(); //Print errors.
-        }
-      }, async));
+    this.implementExecutor(new RunStage(runnable, DONE_MASK, async));
   }
 
   /**
@@ -449,6 +555,18 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
     return this;
   }
 
+  /**
+   * @see Response#ifPresentAdaptive(ThrowableConsumer)
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public @NotNull CompletableResponse<TYPE> ifPresentAdaptive(@Nullable ThrowableConsumer<@NotNull TYPE> consumer) {
+    if (consumer != null) {
+      this.implementExecutor(new IfPresentStage<>(consumer, true).adaptive(consumer));
+    }
+    return this;
+  }
+
   /**
    * Present consumer implementation.
    *
@@ -469,19 +587,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
       return;
     }
 
-    this.implementExecutor(new ResponseFunctionExecutor<>(
-      () -> this.response != null && this.state == State.COMPLETED_DEFAULT, //Only run if response is not null and state is COMPLETED_DEFAULT.
-      () -> {
-        try {
-          final TYPE threadResponse = this.response; //Create local variable for thread.
-          if (threadResponse == null) { //Check for thread safety.
-            return;
-          }
-          consumer.accept(threadResponse); //Fill in consumer.
-        } catch (final Throwable throwable) { //Catch errors in consumer and print them into console.
-          throwable.printStackTrace();
-        }
-      }, async));
+    this.implementExecutor(new IfPresentStage<>(consumer, async)); //Only run if state is COMPLETED_DEFAULT.
   }
 
   /**
@@ -502,6 +608,20 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
     return this.mapImplementation(function, true);
   }
 
+  /**
+   * @see Response#mapAdaptive(ThrowableFunction)
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public @NotNull <MAP> CompletableResponse<MAP> mapAdaptive(@Nullable ThrowableFunction<TYPE, MAP> function) {
+    if (function == null) {
+      return this.mapImplementation(null, false); //Completed exceptionally with NullPointerException.
+    }
+    final CompletableResponse<MAP> completableResponse = new CompletableResponse<>();
+    this.implementExecutor(new MapStage<>(function, completableResponse, true).adaptive(function));
+    return completableResponse;
+  }
+
   /**
    * Implementation to map response to another. {@link ThrowableFunction} will be executed if response was completed with value.
    * Otherwise, given function will be ignored.
@@ -525,18 +645,71 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   private <MAP> CompletableResponse<MAP> mapImplementation(@Nullable final ThrowableFunction<TYPE, MAP> function,
                                                            final boolean async) {
     final CompletableResponse<MAP> completableResponse = new CompletableResponse<>();
-    this.implementExecutor(new ResponseFunctionExecutor<>(
-      () -> this.response != null && this.state == State.COMPLETED_DEFAULT,
-      () -> {
-        try {
-          completableResponse.complete(SpaceObjects.throwIfNull(function).apply(this.response));
-        } catch (final Throwable throwable) {
-          completableResponse.completeExceptionally(throwable);
-        }
-      }, async));
+    this.implementExecutor(new MapStage<>(function, completableResponse, async));
+    return completableResponse;
+  }
+
+  /**
+   * @see Response#flatMap(ThrowableFunction)
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public @NotNull <MAP> CompletableResponse<MAP> flatMap(@Nullable ThrowableFunction<TYPE, Response<MAP>> function) {
+    return this.flatMapImplementation(function, false);
+  }
+
+  /**
+   * @see Response#flatMapAsync(ThrowableFunction)
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public @NotNull <MAP> CompletableResponse<MAP> flatMapAsync(@Nullable ThrowableFunction<TYPE, Response<MAP>> function) {
+    return this.flatMapImplementation(function, true);
+  }
+
+  /**
+   * Implementation to map response to another response. Like {@link CompletableResponse#map(ThrowableFunction)} the
+   * function is only executed if response was completed with value.
+   *
+   * @param function to create next response with.
+   * @param async    true, if the function is to be executed asynchronously.
+   * @param <MAP>    type of the created response.
+   * @return new instance completed like the created response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private <MAP> CompletableResponse<MAP> flatMapImplementation(@Nullable final ThrowableFunction<TYPE, Response<MAP>> function,
+                                                               final boolean async) {
+    final CompletableResponse<MAP> completableResponse = new CompletableResponse<>();
+    this.implementExecutor(new FlatMapStage<>(function, completableResponse, async));
     return completableResponse;
   }
 
+  /**
+   * Run relay of a flat mapped response. A relay started while another relay of this thread runs is queued and run
+   * after it, so chains of already completed responses do not grow the stack.
+   *
+   * @param relay to run.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static void trampoline(@NotNull final Runnable relay) {
+    final ArrayDeque<Runnable> pendingRelays = RELAYS.get();
+    if (pendingRelays != null) {
+      pendingRelays.add(relay); //Run by the outer relay of this thread.
+      return;
+    }
+
+    final ArrayDeque<Runnable> relays = new ArrayDeque<>();
+    RELAYS.set(relays);
+    try {
+      Runnable next = relay;
+      do {
+        next.run();
+      } while ((next = relays.poll()) != null);
+    } finally {
+      RELAYS.remove();
+    }
+  }
+
   /**
    * @see Response#filter(ThrowablePredicate)
    */
@@ -576,16 +749,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   private @NotNull CompletableResponse<TYPE> filterImplementation(@Nullable final ThrowablePredicate<TYPE> typePredicate,
                                                                   final boolean async) {
     final CompletableResponse<TYPE> completableResponse = new CompletableResponse<>();
-    this.implementExecutor(new ResponseFunctionExecutor<>(
-      () -> this.response != null && this.state == State.COMPLETED_DEFAULT,
-      () -> {
-        try {
-          final TYPE currentValue = this.response;
-          completableResponse.complete(currentValue != null && SpaceObjects.throwIfNull(typePredicate).test(this.response) ? currentValue : null);
-        } catch (final Throwable throwable) {
-          completableResponse.completeExceptionally(throwable);
-        }
-      }, async));
+    this.implementExecutor(new FilterStage<>(typePredicate, completableResponse, async));
     return completableResponse;
   }
 
@@ -632,15 +796,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
       return;
     }
 
-    this.implementExecutor(new ResponseFunctionExecutor<>(
-      () -> this.state == State.COMPLETED_NULL,
-      () -> {
-        try {
-          runnable.run();
-        } catch (final Throwable throwable) {
-          throwable.printStackTrace();
-        }
-      }, async));
+    this.implementExecutor(new RunStage(runnable, State.COMPLETED_NULL.mask(), async));
   }
 
   /**
@@ -653,7 +809,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   @Override
   public @NotNull CompletableResponse<TYPE> useIfAbsent(@Nullable ThrowableSupplier<TYPE> typeSupplier) {
-    return this.useImplementation(typeSupplier, () -> this.state == State.COMPLETED_NULL, false);
+    return this.useImplementation(typeSupplier, State.COMPLETED_NULL.mask(), false);
   }
 
   /**
@@ -666,7 +822,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   @Override
   public @NotNull CompletableResponse<TYPE> useIfAbsentAsync(@Nullable ThrowableSupplier<TYPE> typeSupplier) {
-    return this.useImplementation(typeSupplier, () -> this.state == State.COMPLETED_NULL, true);
+    return this.useImplementation(typeSupplier, State.COMPLETED_NULL.mask(), true);
   }
 
   /**
@@ -679,7 +835,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   @Override
   public @NotNull CompletableResponse<TYPE> useIfExceptionally(@Nullable ThrowableSupplier<TYPE> typeSupplier) {
-    return this.useImplementation(typeSupplier, () -> this.state == State.COMPLETED_EXCEPTIONALLY, false);
+    return this.useImplementation(typeSupplier, State.COMPLETED_EXCEPTIONALLY.mask(), false);
   }
 
   /**
@@ -692,7 +848,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   @Override
   public @NotNull CompletableResponse<TYPE> useIfExceptionallyAsync(@Nullable ThrowableSupplier<TYPE> typeSupplier) {
-    return this.useImplementation(typeSupplier, () -> this.state == State.COMPLETED_EXCEPTIONALLY, true);
+    return this.useImplementation(typeSupplier, State.COMPLETED_EXCEPTIONALLY.mask(), true);
   }
 
   /**
@@ -707,7 +863,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   public @NotNull CompletableResponse<TYPE> elseUse(@Nullable ThrowableSupplier<TYPE> typeSupplier) {
     return this.useImplementation(
       typeSupplier,
-      () -> this.state == State.COMPLETED_NULL || this.state == State.COMPLETED_EXCEPTIONALLY,
+      State.COMPLETED_NULL.mask() | State.COMPLETED_EXCEPTIONALLY.mask(),
       false);
   }
 
@@ -723,7 +879,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   public @NotNull CompletableResponse<TYPE> elseUseAsync(@Nullable ThrowableSupplier<TYPE> typeSupplier) {
     return this.useImplementation(
       typeSupplier,
-      () -> this.state == State.COMPLETED_NULL || this.state == State.COMPLETED_EXCEPTIONALLY,
+      State.COMPLETED_NULL.mask() | State.COMPLETED_EXCEPTIONALLY.mask(),
       true);
   }
 
@@ -743,27 +899,16 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
    * </dl>
    *
    * @param typeSupplier      to get alternative response from.
-   * @param checkIfExecutable condition to run alternative get.
+   * @param stateMask         bitmask of states to run alternative get for.
    * @param async             true, if the runnable is to be executed asynchronously.
    * @return new instance of {@link CompletableResponse} with alternative response of current instance.
    */
   @LibraryInformation(state = LibraryInformation.State.WORK_IN_PROGRESS, access = LibraryInformation.Access.INTERNAL, since = "1.0.6", updated = "1.0.8")
   private @NotNull CompletableResponse<TYPE> useImplementation(@Nullable final ThrowableSupplier<TYPE> typeSupplier,
-                                                               @NotNull final Supplier<Boolean> checkIfExecutable,
+                                                               final int stateMask,
                                                                final boolean async) {
     final CompletableResponse<TYPE> completableResponse = new CompletableResponse<>();
-    this.implementExecutor(new ResponseFunctionExecutor<>(
-      checkIfExecutable,
-      () -> {
-        if (this.response != null) {
-          return;
-        }
-        try {
-          completableResponse.complete(SpaceObjects.throwIfNull(typeSupplier).get());
-        } catch (final Throwable throwable) {
-          completableResponse.completeExceptionally(throwable);
-        }
-      }, async));
+    this.implementExecutor(new UseStage<>(typeSupplier, completableResponse, stateMask, async));
 
     return completableResponse;
   }
@@ -811,15 +956,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
       return;
     }
 
-    this.implementExecutor(new ResponseFunctionExecutor<>(
-      () -> this.state == State.COMPLETED_EXCEPTIONALLY, //Only run if response was completed with error.
-      () -> {
-        try {
-          consumer.accept(this.throwable);
-        } catch (final Throwable throwable) {
-          throwable.printStackTrace(); //Print error which could potentially be thrown in the consumer.
-        }
-      }, async));
+    this.implementExecutor(new IfExceptionallyStage(consumer, async)); //Only run if response was completed with error.
   }
 
   /**
@@ -828,7 +965,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
   @Override
   public boolean done() {
-    return this.state.done();
+    return this.result != null;
   }
 
   /**
@@ -837,7 +974,7 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
   @Override
   public boolean canceled() {
-    return this.state == State.CANCELLED;
+    return this.state() == State.CANCELLED;
   }
 
   /**
@@ -846,20 +983,147 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
   @Override
   public boolean exceptionally() {
-    return this.state == State.COMPLETED_EXCEPTIONALLY;
+    return this.state() == State.COMPLETED_EXCEPTIONALLY;
   }
 
   /**
-   * Update responseFunctions array.
+   * Decode state of {@link CompletableResponse#result}.
    *
-   * @param responseFunction to add to array.
+   * @return current state.
    */
-  @LibraryInformation(state = LibraryInformation.State.WORK_IN_PROGRESS, access = LibraryInformation.Access.INTERNAL, since = "1.0.6")
-  private synchronized void implementExecutor(@NotNull final ResponseFunction<?> responseFunction) {
-    if (this.done()) { //Directly run executor if already finished.
-      responseFunction.run(this.service());
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private @NotNull State state() {
+    return stateOf(this.result);
+  }
+
+  /**
+   * Decode value of {@link CompletableResponse#result}.
+   *
+   * @return value, null if not completed with a value.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private @Nullable TYPE response() {
+    return valueOf(this.result);
+  }
+
+  /**
+   * Decode error of {@link CompletableResponse#result}.
+   *
+   * @return error, null if not completed exceptionally.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private @Nullable Throwable throwable() {
+    return throwableOf(this.result);
+  }
+
+  /**
+   * Decode state of an encoded result.
+   *
+   * @param result to decode.
+   * @return state of result.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static @NotNull State stateOf(@Nullable final Object result) {
+    if (result == null) {
+      return State.UNCOMPLETED;
+    }
+    if (result == NULL_RESULT) {
+      return State.COMPLETED_NULL;
+    }
+    return result instanceof AltResult altResult ? altResult.state() : State.COMPLETED_DEFAULT;
+  }
+
+  /**
+   * Decode value of an encoded result.
+   *
+   * @param result to decode.
+   * @param <TYPE> type of value.
+   * @return value, null if result is not a value.
+   */
+  @SuppressWarnings("unchecked")
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static <TYPE> @Nullable TYPE valueOf(@Nullable final Object result) {
+    return result == null || result == NULL_RESULT || result instanceof AltResult ? null : (TYPE) result;
+  }
+
+  /**
+   * Decode error of an encoded result.
+   *
+   * @param result to decode.
+   * @return error, null if result is not exceptional.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static @Nullable Throwable throwableOf(@Nullable final Object result) {
+    return result instanceof AltResult altResult ? altResult.throwable() : null;
+  }
+
+  /**
+   * Set average execution time up to which adaptive stages of responses with the given executor are executed on the
+   * completing thread. Adaptive stages are {@link CompletableResponse#sniffAdaptive(ResponseConsumer)},
+   * {@link CompletableResponse#runAdaptive(ThrowableRunnable)},
+   * {@link CompletableResponse#ifPresentAdaptive(ThrowableConsumer)} and
+   * {@link CompletableResponse#mapAdaptive(ThrowableFunction)}. The time is measured per class of the given function.
+   * Default is 50 microseconds.
+   *
+   * @param service   executor of the responses, {@link CompletableResponse#defaultService()} if null.
+   * @param threshold average execution time of cheap functions, null to use the default again. The executor is
+   *                  referenced until its threshold is reset.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static void adaptiveThreshold(@Nullable final ExecutorService service,
+                                       @Nullable final Duration threshold) {
+    StageCost.threshold(service == null ? DEFAULT_SERVICE : service, threshold == null ? -1L : threshold.toNanos());
+  }
+
+  /**
+   * Get executor of responses created without executor.
+   *
+   * @return default executor.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  static @NotNull ExecutorService defaultService() {
+    return DEFAULT_SERVICE;
+  }
+
+  /**
+   * Create the default executor. Threads are named to be found in thread dumps and
+   * {@link ResponseWatchdog} warnings.
+   *
+   * @return created cached thread pool.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static @NotNull ExecutorService createDefaultService() {
+    final AtomicInteger threadCount = new AtomicInteger();
+    return Executors.newCachedThreadPool(runnable -> {
+      final Thread thread = new Thread(runnable, "response-pool-" + threadCount.incrementAndGet());
+      thread.setDaemon(false); //Same as default thread factory, do not inherit from creating thread.
+      return thread;
+    });
+  }
+
+  /**
+   * Register stage of another class of this package.
+   *
+   * @param stage to register.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  void registerStage(@NotNull final ResponseFunctionExecutor stage) {
+    this.implementExecutor(stage);
+  }
+
+  /**
+   * Register stage, or run it directly if this response is already completed.
+   *
+   * @param responseFunction to register.
+   */
+  @LibraryInformation(state = LibraryInformation.State.WORK_IN_PROGRESS, access = LibraryInformation.Access.INTERNAL, since = "1.0.6", updated = "1.0.9")
+  private synchronized void implementExecutor(@NotNull final ResponseFunctionExecutor responseFunction) {
+    final Object result = this.result;
+    if (result != null) { //Directly run executor if already finished.
+      responseFunction.fire(stateOf(result), result, this.service());
     } else { //Add to run later if response is completed.
-      this.responseFunctions = SpaceArrays.push(this.responseFunctions, responseFunction);
+      responseFunction.next = this.stages;
+      this.stages = responseFunction;
     }
   }
 
@@ -874,13 +1138,32 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   }
 
   /**
-   * Execute a {@link Runnable} using the local {@link ExecutorService}.
+   * Execute a {@link Runnable} using the local {@link ExecutorService}. The {@link ResponseContext} of the calling
+   * thread is restored around the runnable.
    *
    * @param runnable to execute.
    */
-  @LibraryInformation(state = LibraryInformation.State.STABLE, access = LibraryInformation.Access.INTERNAL, since = "1.0.6")
+  @LibraryInformation(state = LibraryInformation.State.STABLE, access = LibraryInformation.Access.INTERNAL, since = "1.0.6", updated = "1.0.9")
   private void execute(@NotNull final Runnable runnable) {
-    this.service().execute(runnable);
+    this.execute(runnable, null);
+  }
+
+  /**
+   * Execute a {@link Runnable} using the local {@link ExecutorService} with priority. The priority is only used if the
+   * service is a {@link PriorityExecutor}.
+   *
+   * @param runnable to execute.
+   * @param priority of runnable, null for the default of the service.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private void execute(@NotNull final Runnable runnable,
+                       @Nullable final Priority priority) {
+    final Runnable wrapped = ResponseContext.wrap(runnable);
+    if (priority != null && this.service() instanceof final PriorityExecutor priorityExecutor) {
+      priorityExecutor.execute(wrapped, priority);
+      return;
+    }
+    this.service().execute(wrapped);
   }
 
   /*
@@ -950,59 +1233,1041 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
   }
 
   /**
+   * Thread save counter for k-of-n completions. Used by quorum and majority methods.
+   * <br>
+   * The collection only decides whether the target can be completed, completion itself is done outside the lock.
    *
+   * @param <TYPE> type of the results to collect.
    */
-  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
-  @FunctionalInterface
-  public interface EqualFunction {
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static class QuorumCollection<TYPE> {
     /**
-     * Method to compare if two objects are the same using {@link Object#equals(Object)}.
+     * Number of present values needed to reach the quorum.
      */
-    @NotNull EqualFunction EQUALS = (o, obj) -> o != null /*Check if first object is present.*/ && o.equals(obj);
+    private final int required;
     /**
-     * Method to compare the hashCode of the given objects.
+     * Number of responses taking part.
      */
-    @NotNull EqualFunction HASHCODE = (o, obj) -> o != null && obj != null && o.hashCode() == obj.hashCode();
+    private final int total;
+    /**
+     * Present results in order of completion.
+     */
+    private final @NotNull Result<TYPE>[] results;
+    /**
+     * Values that were completed, each distinct value (by {@link EqualFunction}) is stored once.
+     */
+    private final @NotNull Object[] values;
+    /**
+     * Number of votes for the value with the same index in {@link QuorumCollection#values}.
+     */
+    private final int[] votes;
+    /**
+     * Function to compare values with, null if values are not compared.
+     */
+    private final @Nullable EqualFunction equalFunction;
+    private int present;
+    private int distinct;
+    private int received;
+    private boolean decided;
 
     /**
-     * Method to compare to objects with each-other.
+     * Create collection.
      *
-     * @param object1 first object to compare.
-     * @param object2 second object to compare with object1.
-     * @return true, if both objects are the same.
+     * @param required      number of (equal) values to reach.
+     * @param total         number of responses taking part.
+     * @param equalFunction if present, values are grouped with this function and required is applied per group.
      */
-    boolean equals(@Nullable final Object object1,
-                   @Nullable final Object object2);
-  }
-
-  /*
-   * --------------------------- static methods --------------------------------
-   */
+    @SuppressWarnings("unchecked")
+    private QuorumCollection(final int required,
+                             final int total,
+                             @Nullable final EqualFunction equalFunction) {
+      this.required = required;
+      this.total = total;
+      this.equalFunction = equalFunction;
+      this.results = (Result<TYPE>[]) new Result<?>[equalFunction == null ? required : 0];
+      this.values = new Object[equalFunction == null ? 0 : total];
+      this.votes = new int[equalFunction == null ? 0 : total];
+    }
 
-  /**
-   * Complete a new {@link CompletableResponse} instance with an {@link Throwable}.
-   *
-   * @param throwable to complete instance with. Also, null possible, if no throwable is given.
-   * @param <TYPE>    type of response.
-   * @return created {@link CompletableResponse} instance with completed throwable.
-   */
-  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
-  public static @NotNull <TYPE> CompletableResponse<TYPE> exceptionally(@Nullable final Throwable throwable) {
-    return new CompletableResponse<TYPE>().completeExceptionally(throwable);
-  }
+    /**
+     * Count a completed response.
+     *
+     * @param state     linked to {@link CompletableResponse#state}.
+     * @param type      linked to {@link CompletableResponse#response}.
+     * @param throwable linked to {@link CompletableResponse#throwable}.
+     * @return {@link Boolean#TRUE} if the quorum was reached with this call, {@link Boolean#FALSE} if it can not be
+     * reached anymore and null if the decision is still open.
+     */
+    private synchronized @Nullable Boolean accept(@NotNull final State state,
+                                                  @Nullable final Object type,
+                                                  @Nullable final Throwable throwable) {
+      if (this.decided) {
+        return null; //Already decided, ignore late responses.
+      }
+      this.received++;
+
+      int bestVotes = this.present; //Without equalFunction every present value counts.
+      if (state == State.COMPLETED_DEFAULT && type != null) {
+        if (this.equalFunction == null) {
+          this.results[this.present] = this.result(state, type, throwable);
+          bestVotes = ++this.present;
+        } else {
+          bestVotes = this.vote(type);
+        }
+      } else if (this.equalFunction != null) {
+        bestVotes = this.bestVotes();
+      }
 
-  /**
-   * Create response and complete asynchronous.
-   *
-   * @param typeSupplier to complete asynchronous.
-   * @param <TYPE>       type to use for response.
-   * @return new instance of {@link CompletableResponse}.
-   * @throws NullPointerException if typeSupplier is null.
-   */
-  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
-  public static <TYPE> @NotNull CompletableResponse<TYPE> completedAsync(@Nullable ThrowableSupplier<TYPE> typeSupplier) {
-    return new CompletableResponse<TYPE>().completeAsync(typeSupplier);
-  }
+      if (bestVotes >= this.required) {
+        this.decided = true;
+        return Boolean.TRUE;
+      }
+      if (bestVotes + (this.total - this.received) < this.required) { //Remaining responses can not reach the quorum.
+        this.decided = true;
+        return Boolean.FALSE;
+      }
+      return null;
+    }
+
+    /**
+     * Add vote for value.
+     *
+     * @param type to vote for.
+     * @return highest number of votes of any value.
+     */
+    private int vote(@NotNull final Object type) {
+      int index = 0;
+      while (index < this.distinct && !SpaceObjects.throwIfNull(this.equalFunction).equals(this.values[index], type)) {
+        index++;
+      }
+      if (index == this.distinct) { //New value.
+        this.values[this.distinct++] = type;
+      }
+      this.votes[index]++;
+      return this.bestVotes();
+    }
+
+    /**
+     * @return highest number of votes of any value.
+     */
+    private int bestVotes() {
+      int best = 0;
+      for (int i = 0; i < this.distinct; i++) {
+        best = Math.max(best, this.votes[i]);
+      }
+      return best;
+    }
+
+    /**
+     * @return present results in order of completion.
+     */
+    private @NotNull Result<TYPE>[] results() {
+      return this.results;
+    }
+
+    /**
+     * @return value with the most votes, null if no value is present.
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized @Nullable TYPE majorityValue() {
+      int bestIndex = -1;
+      for (int i = 0; i < this.distinct; i++) {
+        if (bestIndex == -1 || this.votes[i] > this.votes[bestIndex]) {
+          bestIndex = i;
+        }
+      }
+      return bestIndex == -1 ? null : (TYPE) this.values[bestIndex];
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull Result<TYPE> result(@NotNull final State state,
+                                         @Nullable final Object type,
+                                         @Nullable final Throwable throwable) {
+      return new Result<>(state, (TYPE) type, throwable);
+    }
+  }
+
+  /**
+   * Stage of {@link CompletableResponse#sniff(ResponseConsumer)}, executed for every completed state.
+   *
+   * @param <TYPE> type of the response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class SniffStage<TYPE> extends ResponseFunctionExecutor {
+    private final @NotNull ResponseConsumer<TYPE> responseConsumer;
+
+    private SniffStage(@NotNull final ResponseConsumer<TYPE> responseConsumer,
+                       final boolean async) {
+      super(DONE_MASK, async);
+      this.responseConsumer = responseConsumer;
+    }
+
+    @Override
+    void execute(@Nullable final Object result) {
+      try { //Catch possible errors from consumer.
+        this.responseConsumer.accept(stateOf(result), CompletableResponse.<TYPE>valueOf(result), throwableOf(result));
+      } catch (final Throwable throwable) {
+        throwable.printStackTrace(); //Print errors.
+      }
+    }
+  }
+
+  /**
+   * Stage of {@link CompletableResponse#run(ThrowableRunnable)} and {@link CompletableResponse#ifAbsent(ThrowableRunnable)}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class RunStage extends ResponseFunctionExecutor {
+    private final @NotNull ThrowableRunnable runnable;
+
+    private RunStage(@NotNull final ThrowableRunnable runnable,
+                     final int stateMask,
+                     final boolean async) {
+      super(stateMask, async);
+      this.runnable = runnable;
+    }
+
+    @Override
+    void execute(@Nullable final Object result) {
+      try { //Catch possible errors from runnable.
+        this.runnable.run();
+      } catch (final Throwable throwable) {
+        throwable.printStackTrace(); //Print errors.
+      }
+    }
+  }
+
+  /**
+   * Stage of {@link CompletableResponse#ifPresent(ThrowableConsumer)}, executed for {@link State#COMPLETED_DEFAULT}.
+   *
+   * @param <TYPE> type of the response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class IfPresentStage<TYPE> extends ResponseFunctionExecutor {
+    private final @NotNull ThrowableConsumer<TYPE> consumer;
+
+    private IfPresentStage(@NotNull final ThrowableConsumer<TYPE> consumer,
+                           final boolean async) {
+      super(State.COMPLETED_DEFAULT.mask(), async);
+      this.consumer = consumer;
+    }
+
+    @Override
+    void execute(@Nullable final Object result) {
+      final TYPE value = valueOf(result);
+      if (value == null) {
+        return;
+      }
+      try {
+        this.consumer.accept(value); //Fill in consumer.
+      } catch (final Throwable throwable) { //Catch errors in consumer and print them into console.
+        throwable.printStackTrace();
+      }
+    }
+  }
+
+  /**
+   * Stage of {@link CompletableResponse#map(ThrowableFunction)}, executed for {@link State#COMPLETED_DEFAULT}.
+   *
+   * @param <TYPE> type of the response.
+   * @param <MAP>  type of the mapped response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class MapStage<TYPE, MAP> extends ResponseFunctionExecutor {
+    private final @Nullable ThrowableFunction<TYPE, MAP> function;
+    private final @NotNull CompletableResponse<MAP> completableResponse;
+
+    private MapStage(@Nullable final ThrowableFunction<TYPE, MAP> function,
+                     @NotNull final CompletableResponse<MAP> completableResponse,
+                     final boolean async) {
+      super(State.COMPLETED_DEFAULT.mask(), async);
+      this.function = function;
+      this.completableResponse = completableResponse;
+    }
+
+    @Override
+    void execute(@Nullable final Object result) {
+      try {
+        this.completableResponse.complete(SpaceObjects.throwIfNull(this.function).apply(valueOf(result)));
+      } catch (final Throwable throwable) {
+        this.completableResponse.completeExceptionally(this.assembled(throwable));
+      }
+    }
+  }
+
+  /**
+   * Stage of {@link CompletableResponse#flatMap(ThrowableFunction)}, executed for {@link State#COMPLETED_DEFAULT}. The
+   * created response completes the target with a sniff, no thread waits for it.
+   *
+   * @param <TYPE> type of the response.
+   * @param <MAP>  type of the created response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class FlatMapStage<TYPE, MAP> extends ResponseFunctionExecutor {
+    private final @Nullable ThrowableFunction<TYPE, Response<MAP>> function;
+    private final @NotNull CompletableResponse<MAP> completableResponse;
+
+    private FlatMapStage(@Nullable final ThrowableFunction<TYPE, Response<MAP>> function,
+                         @NotNull final CompletableResponse<MAP> completableResponse,
+                         final boolean async) {
+      super(State.COMPLETED_DEFAULT.mask(), async);
+      this.function = function;
+      this.completableResponse = completableResponse;
+    }
+
+    @Override
+    void execute(@Nullable final Object result) {
+      final Response<MAP> response;
+      try {
+        response = SpaceObjects.throwIfNull(SpaceObjects.throwIfNull(this.function).apply(valueOf(result)), "Function returned null.");
+      } catch (final Throwable throwable) {
+        this.completableResponse.completeExceptionally(this.assembled(throwable));
+        return;
+      }
+
+      response.sniff((state, value, throwable) -> trampoline(() -> {
+        switch (state) {
+          case COMPLETED_DEFAULT, COMPLETED_NULL -> this.completableResponse.complete(value);
+          case COMPLETED_EXCEPTIONALLY -> this.completableResponse.completeExceptionally(throwable);
+          default -> this.completableResponse.cancel();
+        }
+      }));
+    }
+  }
+
+  /**
+   * Combination of the zip methods. Counts completed responses, the values are read by {@link Zip#combine()}.
+   *
+   * @param <TYPE> type of the combined response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static abstract class Zip<TYPE> {
+    private final @NotNull CompletableResponse<TYPE> completableResponse;
+    /**
+     * Number of responses without value yet.
+     */
+    private int remaining;
+
+    private Zip(final int remaining) {
+      this.completableResponse = new CompletableResponse<>();
+      this.remaining = remaining;
+    }
+
+    /**
+     * Count a response completed with value (or null), combine values once every response arrived.
+     */
+    private void arrive() {
+      synchronized (this) {
+        if (--this.remaining > 0) {
+          return;
+        }
+      }
+      try {
+        this.completableResponse.complete(this.combine());
+      } catch (final Throwable throwable) {
+        this.completableResponse.completeExceptionally(throwable);
+      }
+    }
+
+    /**
+     * Combine values of the responses, only called once all of them are completed.
+     *
+     * @return combined value.
+     * @throws Throwable if function throws an error.
+     */
+    abstract @Nullable TYPE combine() throws Throwable;
+  }
+
+  /**
+   * Stage of one response of a {@link Zip}, executed for every completed state. Errors and cancellation are passed to
+   * the combined response directly.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class ZipStage extends ResponseFunctionExecutor {
+    private final @NotNull Zip<?> zip;
+
+    private ZipStage(@NotNull final Zip<?> zip) {
+      super(DONE_MASK, false);
+      this.zip = zip;
+    }
+
+    @Override
+    void execute(@Nullable final Object result) {
+      switch (stateOf(result)) {
+        case COMPLETED_EXCEPTIONALLY -> this.zip.completableResponse.completeExceptionally(throwableOf(result)); //Fail fast.
+        case CANCELLED -> this.zip.completableResponse.cancel();
+        default -> this.zip.arrive();
+      }
+    }
+  }
+
+  /**
+   * Stage of {@link CompletableResponse#filter(ThrowablePredicate)}, executed for {@link State#COMPLETED_DEFAULT}.
+   *
+   * @param <TYPE> type of the response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class FilterStage<TYPE> extends ResponseFunctionExecutor {
+    private final @Nullable ThrowablePredicate<TYPE> typePredicate;
+    private final @NotNull CompletableResponse<TYPE> completableResponse;
+
+    private FilterStage(@Nullable final ThrowablePredicate<TYPE> typePredicate,
+                        @NotNull final CompletableResponse<TYPE> completableResponse,
+                        final boolean async) {
+      super(State.COMPLETED_DEFAULT.mask(), async);
+      this.typePredicate = typePredicate;
+      this.completableResponse = completableResponse;
+    }
+
+    @Override
+    void execute(@Nullable final Object result) {
+      try {
+        final TYPE value = valueOf(result);
+        this.completableResponse.complete(value != null && SpaceObjects.throwIfNull(this.typePredicate).test(value) ? value : null);
+      } catch (final Throwable throwable) {
+        this.completableResponse.completeExceptionally(this.assembled(throwable));
+      }
+    }
+  }
+
+  /**
+   * Stage of {@link CompletableResponse#useIfAbsent(ThrowableSupplier)}, {@link CompletableResponse#useIfExceptionally(ThrowableSupplier)}
+   * and {@link CompletableResponse#elseUse(ThrowableSupplier)}.
+   *
+   * @param <TYPE> type of the response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class UseStage<TYPE> extends ResponseFunctionExecutor {
+    private final @Nullable ThrowableSupplier<TYPE> typeSupplier;
+    private final @NotNull CompletableResponse<TYPE> completableResponse;
+
+    private UseStage(@Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                     @NotNull final CompletableResponse<TYPE> completableResponse,
+                     final int stateMask,
+                     final boolean async) {
+      super(stateMask, async);
+      this.typeSupplier = typeSupplier;
+      this.completableResponse = completableResponse;
+    }
+
+    @Override
+    void execute(@Nullable final Object result) {
+      try {
+        this.completableResponse.complete(SpaceObjects.throwIfNull(this.typeSupplier).get());
+      } catch (final Throwable throwable) {
+        this.completableResponse.completeExceptionally(this.assembled(throwable));
+      }
+    }
+  }
+
+  /**
+   * Stage of {@link CompletableResponse#ifExceptionally(ThrowableConsumer)}, executed for
+   * {@link State#COMPLETED_EXCEPTIONALLY}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class IfExceptionallyStage extends ResponseFunctionExecutor {
+    private final @NotNull ThrowableConsumer<Throwable> consumer;
+
+    private IfExceptionallyStage(@NotNull final ThrowableConsumer<Throwable> consumer,
+                                 final boolean async) {
+      super(State.COMPLETED_EXCEPTIONALLY.mask(), async);
+      this.consumer = consumer;
+    }
+
+    @Override
+    void execute(@Nullable final Object result) {
+      try {
+        this.consumer.accept(throwableOf(result));
+      } catch (final Throwable throwable) {
+        throwable.printStackTrace(); //Print error which could potentially be thrown in the consumer.
+      }
+    }
+  }
+
+  /**
+   * Result of responses completed exceptionally or canceled.
+   *
+   * @param state     {@link State#COMPLETED_EXCEPTIONALLY} or {@link State#CANCELLED}.
+   * @param throwable error of response, null if canceled.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private record AltResult(@NotNull State state,
+                           @Nullable Throwable throwable) {
+  }
+
+  /**
+   * Waits for completion of a response, used with {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}.
+   * Threads wait on the monitor of the response and are woken up by markAsCompleted.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class Waiter implements ForkJoinPool.ManagedBlocker {
+    private final @NotNull CompletableResponse<?> completableResponse;
+    /**
+     * {@link System#nanoTime()} to stop waiting at, ignored if unlimited.
+     */
+    private final long deadline;
+    private final boolean unlimited;
+    /**
+     * True if deadline was reached before completion.
+     */
+    private boolean timedOut;
+
+    private Waiter(@NotNull final CompletableResponse<?> completableResponse,
+                   final long deadline,
+                   final boolean unlimited) {
+      this.completableResponse = completableResponse;
+      this.deadline = deadline;
+      this.unlimited = unlimited;
+    }
+
+    /**
+     * @see ForkJoinPool.ManagedBlocker#block()
+     */
+    @Override
+    public boolean block() throws InterruptedException {
+      synchronized (this.completableResponse) {
+        while (!this.completableResponse.done()) {
+          if (this.unlimited) {
+            this.completableResponse.wait();
+            continue;
+          }
+          final long remaining = this.deadline - System.nanoTime();
+          if (remaining <= 0) {
+            this.timedOut = true;
+            break;
+          }
+          TimeUnit.NANOSECONDS.timedWait(this.completableResponse, remaining);
+        }
+      }
+      return true;
+    }
+
+    /**
+     * @see ForkJoinPool.ManagedBlocker#isReleasable()
+     */
+    @Override
+    public boolean isReleasable() {
+      return this.timedOut || this.completableResponse.done();
+    }
+  }
+
+  /**
+   * State of a hedged execution. Attempts are launched with the executor of the target response.
+   * <br>
+   * A new attempt is launched if the hedge delay is over or if every running attempt failed.
+   *
+   * @param <TYPE> type of the response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class HedgedExecution<TYPE> {
+    private final @NotNull CompletableResponse<TYPE> completableResponse;
+    private final @NotNull ThrowableSupplier<TYPE> typeSupplier;
+    /**
+     * Supplies the delay until the next attempt in nanoseconds. Negative values disable hedging.
+     */
+    private final @NotNull LongSupplier hedgeDelay;
+    private final @NotNull CompletableResponse<TYPE>[] attempts;
+    private int launched;
+    private int failed;
+    private @Nullable ScheduledFuture<?> scheduledHedge;
+
+    @SuppressWarnings("unchecked")
+    private HedgedExecution(@NotNull final CompletableResponse<TYPE> completableResponse,
+                            @NotNull final ThrowableSupplier<TYPE> typeSupplier,
+                            @NotNull final LongSupplier hedgeDelay,
+                            final int maxAttempts) {
+      this.completableResponse = completableResponse;
+      this.typeSupplier = typeSupplier;
+      this.hedgeDelay = hedgeDelay;
+      this.attempts = (CompletableResponse<TYPE>[]) new CompletableResponse<?>[maxAttempts];
+    }
+
+    /**
+     * Launch next attempt if the response is not done and attempts are left.
+     */
+    private void launch() {
+      final CompletableResponse<TYPE> attempt;
+      synchronized (this) {
+        if (this.completableResponse.done() || this.launched >= this.attempts.length) {
+          return; //Nothing left to do.
+        }
+        attempt = new CompletableResponse<>(this.completableResponse.service());
+        this.attempts[this.launched++] = attempt;
+        this.scheduleHedge();
+      }
+
+      attempt
+        .sniff(this::accept)
+        .completeAsync(this.typeSupplier);
+    }
+
+    /**
+     * Schedule the next attempt on the {@link ResponseScheduler}. Has to be called with lock.
+     */
+    private void scheduleHedge() {
+      if (this.scheduledHedge != null) {
+        this.scheduledHedge.cancel(false); //Attempt was launched early, drop the pending hedge.
+        this.scheduledHedge = null;
+      }
+      if (this.launched >= this.attempts.length) {
+        return; //Last attempt was launched.
+      }
+      final long delay = this.hedgeDelay.getAsLong();
+      if (delay >= 0) {
+        this.scheduledHedge = ResponseScheduler.schedule(this::launch, delay);
+      }
+    }
+
+    /**
+     * Handle completion of an attempt. The first success completes the response.
+     */
+    private void accept(@NotNull final State state,
+                        @Nullable final TYPE type,
+                        @Nullable final Throwable throwable) {
+      if (state == State.COMPLETED_DEFAULT || state == State.COMPLETED_NULL) {
+        this.completableResponse.complete(type);
+        return;
+      }
+      if (state != State.COMPLETED_EXCEPTIONALLY) {
+        return; //Canceled attempts are losers.
+      }
+
+      final boolean exhausted;
+      final boolean launchNow;
+      synchronized (this) {
+        this.failed++;
+        exhausted = this.failed >= this.attempts.length; //Every attempt failed.
+        launchNow = this.failed == this.launched; //No attempt is running, do not wait for the hedge.
+      }
+      if (exhausted) {
+        this.completableResponse.completeExceptionally(throwable);
+      } else if (launchNow) {
+        this.launch();
+      }
+    }
+
+    /**
+     * Cancel every attempt and the next hedge. Called once the response is done.
+     */
+    private void cancelAttempts() {
+      final CompletableResponse<TYPE>[] launchedAttempts;
+      synchronized (this) {
+        launchedAttempts = Arrays.copyOf(this.attempts, this.launched);
+        if (this.scheduledHedge != null) {
+          this.scheduledHedge.cancel(false);
+        }
+      }
+      for (final CompletableResponse<TYPE> attempt : launchedAttempts) {
+        attempt.cancel();
+      }
+    }
+  }
+
+  /**
+   *
+   */
+  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
+  @FunctionalInterface
+  public interface EqualFunction {
+    /**
+     * Method to compare if two objects are the same using {@link Object#equals(Object)}.
+     */
+    @NotNull EqualFunction EQUALS = (o, obj) -> o != null /*Check if first object is present.*/ && o.equals(obj);
+    /**
+     * Method to compare the hashCode of the given objects.
+     */
+    @NotNull EqualFunction HASHCODE = (o, obj) -> o != null && obj != null && o.hashCode() == obj.hashCode();
+
+    /**
+     * Method to compare to objects with each-other.
+     *
+     * @param object1 first object to compare.
+     * @param object2 second object to compare with object1.
+     * @return true, if both objects are the same.
+     */
+    boolean equals(@Nullable final Object object1,
+                   @Nullable final Object object2);
+  }
+
+  /*
+   * --------------------------- static methods --------------------------------
+   */
+
+  /**
+   * Complete a new {@link CompletableResponse} instance with an {@link Throwable}.
+   *
+   * @param throwable to complete instance with. Also, null possible, if no throwable is given.
+   * @param <TYPE>    type of response.
+   * @return created {@link CompletableResponse} instance with completed throwable.
+   */
+  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
+  public static @NotNull <TYPE> CompletableResponse<TYPE> exceptionally(@Nullable final Throwable throwable) {
+    return new CompletableResponse<TYPE>().completeExceptionally(throwable);
+  }
+
+  /**
+   * Create response and complete asynchronous.
+   *
+   * @param typeSupplier to complete asynchronous.
+   * @param <TYPE>       type to use for response.
+   * @return new instance of {@link CompletableResponse}.
+   * @throws NullPointerException if typeSupplier is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
+  public static <TYPE> @NotNull CompletableResponse<TYPE> completedAsync(@Nullable ThrowableSupplier<TYPE> typeSupplier) {
+    return new CompletableResponse<TYPE>().completeAsync(typeSupplier);
+  }
+
+  /**
+   * Complete response with the first successful attempt of typeSupplier. The first attempt is started directly,
+   * if it is still running after hedgeDelay a backup attempt is started, up to maxAttempts.
+   * A failed attempt starts the next one directly.
+   * <br>
+   * Once completed, the remaining attempts are canceled. If all attempts fail, the response is completed with the
+   * error of the last attempt.
+   *
+   * @param typeSupplier to run for every attempt. Should be safe to be executed more than once.
+   * @param hedgeDelay   time to wait for an attempt before starting the next one.
+   * @param maxAttempts  maximal number of attempts. (Including the first one)
+   * @param <TYPE>       type to use for response.
+   * @return new instance of {@link CompletableResponse}.
+   * @throws NullPointerException     if typeSupplier or hedgeDelay is null.
+   * @throws IllegalArgumentException if maxAttempts is lower than 1.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static <TYPE> @NotNull CompletableResponse<TYPE> hedged(@Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                                                                 @Nullable final Duration hedgeDelay,
+                                                                 final int maxAttempts) {
+    final long hedgeDelayNanos = SpaceObjects.throwIfNull(hedgeDelay, "Given hedgeDelay is null.").toNanos();
+    return hedgedImplementation(new CompletableResponse<>(), typeSupplier, () -> hedgeDelayNanos, maxAttempts);
+  }
+
+  /**
+   * Implementation for hedged executions, also used by {@link ResponseService}.
+   *
+   * @param completableResponse to complete with the first successful attempt.
+   * @param typeSupplier        to run for every attempt.
+   * @param hedgeDelay          supplies delay in nanoseconds for every hedge, negative to disable the hedge.
+   * @param maxAttempts         maximal number of attempts.
+   * @param <TYPE>              type to use for response.
+   * @return completableResponse.
+   * @throws NullPointerException     if typeSupplier is null.
+   * @throws IllegalArgumentException if maxAttempts is lower than 1.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  static <TYPE> @NotNull CompletableResponse<TYPE> hedgedImplementation(@NotNull final CompletableResponse<TYPE> completableResponse,
+                                                                        @Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                                                                        @NotNull final LongSupplier hedgeDelay,
+                                                                        final int maxAttempts) {
+    SpaceObjects.throwIfNull(typeSupplier, "Given typeSupplier is null.");
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("At least one attempt is needed.");
+    }
+
+    final HedgedExecution<TYPE> hedgedExecution = new HedgedExecution<>(completableResponse, typeSupplier, hedgeDelay, maxAttempts);
+    completableResponse.runAsync(hedgedExecution::cancelAttempts); //Cancel losers. Async to not hold the lock of the winner.
+    hedgedExecution.launch();
+    return completableResponse;
+  }
+
+  /**
+   * Create a response that runs typeSupplier with the default executor once delay is over. The delay is kept by a
+   * shared timer thread, no pool thread is parked while waiting.
+   * <br>
+   * Canceling the response before the delay is over drops the supplier.
+   *
+   * @param delay        to wait before typeSupplier is run.
+   * @param typeSupplier to complete the response with.
+   * @param <TYPE>       type to use for response.
+   * @return new instance of {@link CompletableResponse}.
+   * @throws NullPointerException if delay or typeSupplier is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static <TYPE> @NotNull CompletableResponse<TYPE> delayed(@Nullable final Duration delay,
+                                                                  @Nullable final ThrowableSupplier<TYPE> typeSupplier) {
+    final long delayNanos = SpaceObjects.throwIfNull(delay, "Given delay is null.").toNanos();
+    SpaceObjects.throwIfNull(typeSupplier, "Given typeSupplier is null.");
+
+    final CompletableResponse<TYPE> completableResponse = new CompletableResponse<>();
+    completableResponse.scheduleImplementation(() -> completableResponse.completeAsync(typeSupplier) /*Run supplier with executor, not timer.*/, delayNanos);
+    return completableResponse;
+  }
+
+  /**
+   * Create a response that runs probe with the default executor every interval until probe returns a truthy value.
+   * See {@link CompletableResponse#pollUntil(ThrowableSupplier, Duration, Duration, double)}.
+   *
+   * @param probe    to run, should not block.
+   * @param interval to wait between two probes.
+   * @param timeout  to stop polling after.
+   * @param <TYPE>   type to use for response.
+   * @return new instance of {@link CompletableResponse}.
+   * @throws NullPointerException     if probe, interval or timeout is null.
+   * @throws IllegalArgumentException if interval is not positive.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static <TYPE> @NotNull CompletableResponse<TYPE> pollUntil(@Nullable final ThrowableSupplier<TYPE> probe,
+                                                                    @Nullable final Duration interval,
+                                                                    @Nullable final Duration timeout) {
+    return pollUntil(probe, interval, timeout, 1D);
+  }
+
+  /**
+   * Create a response that runs probe with the default executor until probe returns a truthy value. A value is truthy
+   * if it is neither null nor {@link Boolean#FALSE}. Between two probes the shared timer waits, no thread is parked.
+   * <br>
+   * The response is completed with the first truthy value, exceptionally with the error of probe or with a
+   * {@link TimeoutException} once timeout is over. Canceling the response stops polling.
+   * <br>
+   * Example:
+   * <pre><code>
+   * CompletableResponse.pollUntil(() -&gt; Files.exists(path), Duration.ofMillis(100), Duration.ofMinutes(1), 2D)
+   *   .ifPresent(exists -&gt; ...);
+   * </code></pre>
+   *
+   * @param probe    to run, should not block.
+   * @param interval to wait before the second probe.
+   * @param timeout  to stop polling after.
+   * @param backoff  factor the interval is multiplied with after every probe, 1 for a fixed interval.
+   * @param <TYPE>   type to use for response.
+   * @return new instance of {@link CompletableResponse}.
+   * @throws NullPointerException     if probe, interval or timeout is null.
+   * @throws IllegalArgumentException if interval is not positive or backoff is lower than 1.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static <TYPE> @NotNull CompletableResponse<TYPE> pollUntil(@Nullable final ThrowableSupplier<TYPE> probe,
+                                                                    @Nullable final Duration interval,
+                                                                    @Nullable final Duration timeout,
+                                                                    final double backoff) {
+    SpaceObjects.throwIfNull(probe, "Given probe is null.");
+    final long intervalNanos = SpaceObjects.throwIfNull(interval, "Given interval is null.").toNanos();
+    final long timeoutNanos = SpaceObjects.throwIfNull(timeout, "Given timeout is null.").toNanos();
+    if (intervalNanos <= 0) {
+      throw new IllegalArgumentException("Interval must be positive.");
+    }
+    if (!(backoff >= 1D)) { //Also catches NaN.
+      throw new IllegalArgumentException("Backoff must be at least 1.");
+    }
+
+    final CompletableResponse<TYPE> completableResponse = new CompletableResponse<>();
+    completableResponse.pollImplementation(probe, intervalNanos, backoff, System.nanoTime() + timeoutNanos);
+    return completableResponse;
+  }
+
+  /**
+   * Create an executor that submits every task to the default executor once delay is over.
+   *
+   * @param delay to wait before a task is submitted.
+   * @return executor with delay.
+   * @throws NullPointerException if delay is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull Executor delayedExecutor(@Nullable final Duration delay) {
+    return delayedExecutor(delay, null);
+  }
+
+  /**
+   * Create an executor that submits every task to executorService once delay is over. The delay is kept by a shared
+   * timer thread.
+   *
+   * @param delay           to wait before a task is submitted.
+   * @param executorService to submit tasks to, null for the default executor.
+   * @return executor with delay.
+   * @throws NullPointerException if delay is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull Executor delayedExecutor(@Nullable final Duration delay,
+                                                  @Nullable final ExecutorService executorService) {
+    final long delayNanos = SpaceObjects.throwIfNull(delay, "Given delay is null.").toNanos();
+    final ExecutorService service = executorService == null ? DEFAULT_SERVICE : executorService;
+    return command -> {
+      final Runnable runnable = ResponseContext.wrap(SpaceObjects.throwIfNull(command, "Given command is null."));
+      ResponseScheduler.schedule(() -> service.execute(runnable), delayNanos);
+    };
+  }
+
+  /**
+   * Run probe once with the executor of this response and schedule the next probe, if no truthy value was returned.
+   *
+   * @param probe         to run.
+   * @param intervalNanos delay until the next probe.
+   * @param backoff       factor for the interval after the next probe.
+   * @param deadline      {@link System#nanoTime()} to complete with {@link TimeoutException} at.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private void pollImplementation(@NotNull final ThrowableSupplier<TYPE> probe,
+                                  final long intervalNanos,
+                                  final double backoff,
+                                  final long deadline) {
+    this.execute(() -> {
+      if (this.done()) {
+        return; //Canceled or completed otherwise.
+      }
+
+      final TYPE value;
+      try {
+        value = probe.get();
+      } catch (final Throwable throwable) {
+        this.completeExceptionallyImplementation(throwable);
+        return;
+      }
+
+      if (value != null && !Boolean.FALSE.equals(value)) { //Truthy value.
+        this.completeImplementation(value);
+        return;
+      }
+
+      final long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        this.completeExceptionallyImplementation(new TimeoutException("Condition not met in time."));
+        return;
+      }
+
+      final long nextInterval = (long) Math.min(Long.MAX_VALUE, intervalNanos * backoff);
+      ResponseScheduler.schedule(() -> this.pollImplementation(probe, nextInterval, backoff, deadline),
+        Math.min(intervalNanos, remaining) /*Last probe at deadline.*/);
+    });
+  }
+
+  /**
+   * Complete this response asynchronous once delay is over. The delay is kept by the timer thread, the supplier is run
+   * with the executor of this response. A rejected submission completes this response exceptionally.
+   *
+   * @param typeSupplier to complete response with.
+   * @param priority     of the completion, see {@link CompletableResponse#completeAsync(ThrowableSupplier, Priority)}.
+   * @param delayNanos   delay in nanoseconds.
+   * @return instance of this response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  @NotNull CompletableResponse<TYPE> completeAsyncDelayed(@Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                                                          @Nullable final Priority priority,
+                                                          final long delayNanos) {
+    if (delayNanos <= 0) {
+      return this.completeAsyncOrReject(typeSupplier, priority);
+    }
+    this.scheduleImplementation(() -> this.completeAsyncOrReject(typeSupplier, priority) /*Run supplier with executor, not timer.*/, delayNanos);
+    return this;
+  }
+
+  /**
+   * Complete this response asynchronous, if the executor rejects the supplier this response is completed with the
+   * {@link RejectedExecutionException}. Otherwise, a response of a delayed submission would never be completed.
+   *
+   * @param typeSupplier to complete response with.
+   * @param priority     of the completion.
+   * @return instance of this response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private @NotNull CompletableResponse<TYPE> completeAsyncOrReject(@Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                                                                   @Nullable final Priority priority) {
+    try {
+      return this.completeAsync(typeSupplier, priority);
+    } catch (final RejectedExecutionException exception) {
+      this.completeExceptionallyImplementation(exception);
+      return this;
+    }
+  }
+
+  /**
+   * Run runnable on the timer thread once delay is over. The scheduled runnable is removed if this response is
+   * completed before.
+   *
+   * @param runnable   to run, should only hand over work.
+   * @param delayNanos delay in nanoseconds.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private void scheduleImplementation(@NotNull final Runnable runnable,
+                                      final long delayNanos) {
+    if (this.done()) {
+      return; //Nothing to schedule.
+    }
+    final ScheduledFuture<?> scheduledFuture = ResponseScheduler.schedule(runnable, delayNanos);
+    this.run(() -> scheduledFuture.cancel(false)); //Drop timer entry, if completed otherwise.
+  }
+
+  /**
+   * Combine the values of two responses. The returned response is completed with the result of the function as soon as
+   * both responses are completed with a value (or null), the function is executed by the thread completing the last one.
+   * <br>
+   * If one of the responses is completed exceptionally, the returned response is completed with its error directly,
+   * without waiting for the other one. If one is canceled, the returned response is canceled.
+   *
+   * @param first    response to combine.
+   * @param second   response to combine.
+   * @param function to combine values with.
+   * @param <FIRST>  type of first response.
+   * @param <SECOND> type of second response.
+   * @param <TYPE>   type of combined response.
+   * @return new instance completed with the combined value.
+   * @throws NullPointerException if a response or function is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull <FIRST, SECOND, TYPE> CompletableResponse<TYPE> zip(@Nullable final CompletableResponse<FIRST> first,
+                                                                            @Nullable final CompletableResponse<SECOND> second,
+                                                                            @Nullable final ThrowableBiFunction<FIRST, SECOND, TYPE> function) {
+    SpaceObjects.throwIfNull(function, "Given function is null.");
+    return zipImplementation(new Zip<>(2) {
+      @Override
+      @Nullable TYPE combine() throws Throwable {
+        return function.apply(valueOf(first.result), valueOf(second.result));
+      }
+    }, first, second, null);
+  }
+
+  /**
+   * Combine the values of three responses. Completion is the same as
+   * {@link CompletableResponse#zip(CompletableResponse, CompletableResponse, ThrowableBiFunction)}.
+   *
+   * @param first    response to combine.
+   * @param second   response to combine.
+   * @param third    response to combine.
+   * @param function to combine values with.
+   * @param <FIRST>  type of first response.
+   * @param <SECOND> type of second response.
+   * @param <THIRD>  type of third response.
+   * @param <TYPE>   type of combined response.
+   * @return new instance completed with the combined value.
+   * @throws NullPointerException if a response or function is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull <FIRST, SECOND, THIRD, TYPE> CompletableResponse<TYPE> zip(@Nullable final CompletableResponse<FIRST> first,
+                                                                                   @Nullable final CompletableResponse<SECOND> second,
+                                                                                   @Nullable final CompletableResponse<THIRD> third,
+                                                                                   @Nullable final ThrowableTriFunction<FIRST, SECOND, THIRD, TYPE> function) {
+    SpaceObjects.throwIfNull(function, "Given function is null.");
+    SpaceObjects.throwIfNull(third, "Given third is null.");
+    return zipImplementation(new Zip<>(3) {
+      @Override
+      @Nullable TYPE combine() throws Throwable {
+        return function.apply(valueOf(first.result), valueOf(second.result), valueOf(third.result));
+      }
+    }, first, second, third);
+  }
+
+  /**
+   * Implementation for the zip methods. Registers one stage per response, values are read from the responses once
+   * all of them are completed.
+   *
+   * @param zip    to complete.
+   * @param first  response to combine.
+   * @param second response to combine.
+   * @param third  response to combine, null if only two are combined.
+   * @param <TYPE> type of combined response.
+   * @return response of zip.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static @NotNull <TYPE> CompletableResponse<TYPE> zipImplementation(@NotNull final Zip<TYPE> zip,
+                                                                            @Nullable final CompletableResponse<?> first,
+                                                                            @Nullable final CompletableResponse<?> second,
+                                                                            @Nullable final CompletableResponse<?> third) {
+    SpaceObjects.throwIfNull(first, "Given first is null.");
+    SpaceObjects.throwIfNull(second, "Given second is null.");
+    first.implementExecutor(new ZipStage(zip));
+    second.implementExecutor(new ZipStage(zip));
+    if (third != null) {
+      third.implementExecutor(new ZipStage(zip));
+    }
+    return zip.completableResponse;
+  }
 
   /**
    * Collect all responses of the specified {@link CompletableResponse} instances.
@@ -1424,6 +2689,274 @@ public final class CompletableResponse<TYPE> implements Response<TYPE> {
     return completableResponse;
   }
 
+  /**
+   * Completes as soon as required responses of the given ones are completed with a present value.
+   * The remaining responses are canceled afterwards.
+   * <br>
+   * If the quorum can no longer be reached, the response is completed with a {@link MismatchException}.
+   *
+   * @param required      number of present values needed. (1 &lt;= required &lt;= responses)
+   * @param responseArray to race each others for the quorum.
+   * @return new instance of {@link CompletableResponse} with the first required results in order of completion.
+   * @throws NullPointerException if responseArray is null.
+   * @see CompletableResponse#quorumImplementation(int, EqualFunction, ThrowableFunction, CompletableResponse[])
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull CompletableResponse<Result<Object>[]> quorum(final int required,
+                                                                     @Nullable final CompletableResponse<?>... responseArray) {
+    return quorumImplementation(required, null, QuorumCollection::results, toObjectArray(responseArray));
+  }
+
+  /**
+   * Completes as soon as required responses of the given ones are completed with a present value.
+   * The remaining responses are canceled afterwards.
+   * <br>
+   * If the quorum can no longer be reached, the response is completed with a {@link MismatchException}.
+   *
+   * @param required           number of present values needed. (1 &lt;= required &lt;= responses)
+   * @param responseCollection to race each others for the quorum.
+   * @return new instance of {@link CompletableResponse} with the first required results in order of completion.
+   * @throws NullPointerException if responseCollection is null.
+   * @see CompletableResponse#quorumImplementation(int, EqualFunction, ThrowableFunction, CompletableResponse[])
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull CompletableResponse<Result<Object>[]> quorum(final int required,
+                                                                     @Nullable final Collection<CompletableResponse<?>> responseCollection) {
+    return quorum(required, SpaceObjects.throwIfNull(responseCollection) //Check if collection is present.
+      .toArray(new CompletableResponse<?>[0])); //Convert to array for thread safe.
+  }
+
+  /**
+   * Completes as soon as required responses of the given ones are completed with a present value.
+   * The remaining responses are canceled afterwards.
+   * <br>
+   * In this variant, all {@link CompletableResponse} must have the same type.
+   * The advantage is that the answer then also has a uniform type.
+   *
+   * @param required      number of present values needed. (1 &lt;= required &lt;= responses)
+   * @param responseArray to race each others for the quorum.
+   * @param <TYPE>        type of the object of every response.
+   * @return new instance of {@link CompletableResponse} with the first required results in order of completion.
+   * @see CompletableResponse#quorumImplementation(int, EqualFunction, ThrowableFunction, CompletableResponse[])
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @SafeVarargs
+  public static @NotNull <TYPE> CompletableResponse<Result<TYPE>[]> quorumType(final int required,
+                                                                              @Nullable final CompletableResponse<TYPE>... responseArray) {
+    return quorumImplementation(required, null, QuorumCollection::results, responseArray);
+  }
+
+  /**
+   * Completes as soon as required responses of the given ones are completed with a present value.
+   * The remaining responses are canceled afterwards.
+   * <br>
+   * In this variant, all {@link CompletableResponse} must have the same type.
+   * The advantage is that the answer then also has a uniform type.
+   *
+   * @param required           number of present values needed. (1 &lt;= required &lt;= responses)
+   * @param responseCollection to race each others for the quorum.
+   * @param <TYPE>             type of the object of every response.
+   * @return new instance of {@link CompletableResponse} with the first required results in order of completion.
+   * @see CompletableResponse#quorumImplementation(int, EqualFunction, ThrowableFunction, CompletableResponse[])
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull <TYPE> CompletableResponse<Result<TYPE>[]> quorumType(final int required,
+                                                                              @Nullable final Collection<CompletableResponse<TYPE>> responseCollection) {
+    return quorumType(required, collectionToArray(responseCollection));
+  }
+
+  /**
+   * Completes as soon as more than half of the given responses are completed with an equal value.
+   * The remaining responses are canceled afterwards.
+   * <br>
+   * If no value can reach the majority anymore, the response is completed with a {@link MismatchException}.
+   *
+   * @param responseArray compare elements with each-other.
+   * @return response which holds the majority value, or an {@link Throwable}. The given response is never completed with null.
+   * @see CompletableResponse#majorityEqualImplementation(EqualFunction, CompletableResponse[])
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull CompletableResponse<Object> majorityEqual(@Nullable final CompletableResponse<?>... responseArray) {
+    return majorityEqualImplementation(null, toObjectArray(responseArray));
+  }
+
+  /**
+   * Completes as soon as more than half of the given responses are completed with an equal value.
+   * The remaining responses are canceled afterwards.
+   * <br>
+   * If no value can reach the majority anymore, the response is completed with a {@link MismatchException}.
+   *
+   * @param responseCollection compare elements with each-other.
+   * @return response which holds the majority value, or an {@link Throwable}. The given response is never completed with null.
+   * @see CompletableResponse#majorityEqualImplementation(EqualFunction, CompletableResponse[])
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull CompletableResponse<Object> majorityEqual(@Nullable final Collection<CompletableResponse<?>> responseCollection) {
+    return majorityEqual(null, responseCollection);
+  }
+
+  /**
+   * Completes as soon as more than half of the given responses are completed with an equal value.
+   * The remaining responses are canceled afterwards.
+   * <br>
+   * If no value can reach the majority anymore, the response is completed with a {@link MismatchException}.
+   *
+   * @param equalFunction function to compare components of responseArray.
+   * @param responseArray compare elements with each-other.
+   * @return response which holds the majority value, or an {@link Throwable}. The given response is never completed with null.
+   * @see CompletableResponse#majorityEqualImplementation(EqualFunction, CompletableResponse[])
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull CompletableResponse<Object> majorityEqual(@Nullable final EqualFunction equalFunction,
+                                                                   @Nullable final CompletableResponse<?>... responseArray) {
+    return majorityEqualImplementation(equalFunction, toObjectArray(responseArray));
+  }
+
+  /**
+   * @param equalFunction      function to compare components of responseCollection.
+   * @param responseCollection compare elements with each-other.
+   * @return response which holds the majority value, or an {@link Throwable}. The given response is never completed with null.
+   * @see CompletableResponse#majorityEqualImplementation(EqualFunction, CompletableResponse[])
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull CompletableResponse<Object> majorityEqual(@Nullable final EqualFunction equalFunction,
+                                                                   @Nullable final Collection<CompletableResponse<?>> responseCollection) {
+    return majorityEqual(equalFunction, SpaceObjects.throwIfNull(responseCollection) //Check if collection is present.
+      .toArray(new CompletableResponse<?>[0]));
+  }
+
+  /**
+   * Completes as soon as more than half of the given responses are completed with an equal value.
+   * The remaining responses are canceled afterwards.
+   * <br>
+   * In this variant, all {@link CompletableResponse} must have the same type.
+   * The advantage is that the answer then also has a uniform type.
+   *
+   * @param equalFunction function to compare components of responseArray.
+   * @param responseArray compare elements with each-other.
+   * @param <TYPE>        type of all {@link CompletableResponse} given and return value.
+   * @return response which holds the majority value, or an {@link Throwable}. The given response is never completed with null.
+   * @see CompletableResponse#majorityEqualImplementation(EqualFunction, CompletableResponse[])
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @SafeVarargs
+  public static @NotNull <TYPE> CompletableResponse<TYPE> majorityEqualType(@Nullable final EqualFunction equalFunction,
+                                                                            @Nullable final CompletableResponse<TYPE>... responseArray) {
+    return majorityEqualImplementation(equalFunction, responseArray);
+  }
+
+  /**
+   * Completes as soon as more than half of the given responses are completed with an equal value.
+   * The remaining responses are canceled afterwards.
+   * <br>
+   * In this variant, all {@link CompletableResponse} must have the same type.
+   * The advantage is that the answer then also has a uniform type.
+   *
+   * @param equalFunction      function to compare components of responseCollection.
+   * @param responseCollection compare elements with each-other.
+   * @param <TYPE>             type of all {@link CompletableResponse} given and return value.
+   * @return response which holds the majority value, or an {@link Throwable}. The given response is never completed with null.
+   * @see CompletableResponse#majorityEqualImplementation(EqualFunction, CompletableResponse[])
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull <TYPE> CompletableResponse<TYPE> majorityEqualType(@Nullable final EqualFunction equalFunction,
+                                                                            @Nullable final Collection<CompletableResponse<TYPE>> responseCollection) {
+    return majorityEqualImplementation(equalFunction, collectionToArray(responseCollection));
+  }
+
+  /**
+   * Implementation for:
+   * <ul>
+   *   <li>{@link CompletableResponse#majorityEqual(CompletableResponse[])}</li>
+   *   <li>{@link CompletableResponse#majorityEqual(Collection)}</li>
+   *   <li>{@link CompletableResponse#majorityEqual(EqualFunction, CompletableResponse[])}</li>
+   *   <li>{@link CompletableResponse#majorityEqual(EqualFunction, Collection)}</li>
+   *   <li>{@link CompletableResponse#majorityEqualType(EqualFunction, CompletableResponse[])}</li>
+   *   <li>{@link CompletableResponse#majorityEqualType(EqualFunction, Collection)}</li>
+   * </ul>
+   * <p>
+   * If equalFunction is null -> {@link EqualFunction#EQUALS} will be used as default.
+   *
+   * @param equalFunction function to compare components of responseArray.
+   * @param responseArray to compare responses from.
+   * @param <TYPE>        type of result to process.
+   * @return new instance with the value of the majority.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  @SafeVarargs
+  private static @NotNull <TYPE> CompletableResponse<TYPE> majorityEqualImplementation(@Nullable final EqualFunction equalFunction,
+                                                                                       @Nullable final CompletableResponse<TYPE>... responseArray) {
+    final int majority = SpaceObjects.throwIfNull(responseArray, "Given array is null.").length / 2 + 1; //More than half of the responses.
+    return quorumImplementation(majority, equalFunction == null ? EqualFunction.EQUALS : equalFunction,
+      QuorumCollection::majorityValue, responseArray);
+  }
+
+  /**
+   * Implementation for quorum and majority methods. Every response is sniffed, no thread is blocked while waiting.
+   * <br>
+   * Once the returned response is completed (or canceled) the given responses are canceled asynchronously.
+   * Responses that are already completed are not affected by this.
+   *
+   * @param required      number of (equal) present values to reach.
+   * @param equalFunction if present, values are compared and required applies to equal values.
+   * @param finisher      to create the value of the response once the quorum is reached.
+   * @param responseArray to wait for.
+   * @param <TYPE>        type of the object of every response.
+   * @param <RESULT>      type of the returned response.
+   * @return new instance of {@link CompletableResponse} which is completed with the value of finisher once the quorum
+   * is reached.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  @SafeVarargs
+  private static @NotNull <TYPE, RESULT> CompletableResponse<RESULT> quorumImplementation(final int required,
+                                                                                         @Nullable final EqualFunction equalFunction,
+                                                                                         @NotNull final ThrowableFunction<QuorumCollection<TYPE>, RESULT> finisher,
+                                                                                         @Nullable final CompletableResponse<TYPE>... responseArray) {
+    SpaceObjects.throwIfNull(responseArray, "Given array is null."); //Throw error if responses is null.
+
+    final CompletableResponse<RESULT> completableResponse = new CompletableResponse<>();
+    if (required < 1 || required > responseArray.length) { //Quorum could never be reached.
+      return completableResponse.completeExceptionally(
+        new IllegalArgumentException("Quorum of %d is not possible with %d responses.".formatted(required, responseArray.length)));
+    }
+
+    final QuorumCollection<TYPE> quorumCollection = new QuorumCollection<>(required, responseArray.length, equalFunction);
+    //Cancel the remaining responses once decided. Async to not hold the lock of a completing response.
+    completableResponse.runAsync(() -> {
+      for (final CompletableResponse<TYPE> response : responseArray) {
+        if (response != null) {
+          response.cancel();
+        }
+      }
+    });
+
+    for (final CompletableResponse<TYPE> response : responseArray) { //Loop trough every component of list.
+      final ResponseConsumer<TYPE> consumer = (state, type, throwable) -> {
+        try {
+          final Boolean decision = quorumCollection.accept(state, type, throwable);
+          if (decision == Boolean.TRUE) {
+            completableResponse.complete(finisher.apply(quorumCollection));
+          } else if (decision == Boolean.FALSE) {
+            completableResponse.completeExceptionally(new MismatchException("Quorum of %d not reachable.".formatted(required)));
+          }
+        } catch (final Throwable consumerThrowable) { //Error of equalFunction or finisher, sniff would only print it.
+          completableResponse.completeExceptionally(consumerThrowable);
+        }
+      };
+
+      if (response == null) { //Null responses count as failed response.
+        try {
+          consumer.accept(State.UNCOMPLETED, null, new NullPointerException("Response is null!"));
+        } catch (final Throwable throwable) {
+          completableResponse.completeExceptionally(throwable);
+        }
+        continue;
+      }
+      response.sniff(consumer);
+    }
+    return completableResponse;
+  }
+
   /*
    * --------------------------- Private methods for static methods of this class --------------------------------
    */
@@ -0,0 +1,156 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps the latest latencies in a ring and calculates percentiles of them.
+ * <br>
+ * Recording is lock free, calculating a percentile copies and sorts the ring. Calculate percentiles when needed,
+ * not for every sample, or use {@link LatencyTracker#cachedPercentile(double)} on hot paths.
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class LatencyTracker {
+  /**
+   * Number of samples kept if no capacity is given.
+   */
+  private final static int DEFAULT_CAPACITY = 1024;
+
+  /**
+   * Ring with latest samples in nanoseconds.
+   */
+  private final AtomicLongArray samples;
+  /**
+   * Number of recorded samples since creation.
+   */
+  private final AtomicLong count;
+  /**
+   * Number of samples after which {@link LatencyTracker#snapshot} is sorted again.
+   */
+  private final int refreshInterval;
+  /**
+   * Sorted samples of the last refresh, null before the first one.
+   */
+  private volatile @Nullable Snapshot snapshot;
+
+  /**
+   * Create tracker with default capacity.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public LatencyTracker() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create tracker with custom capacity.
+   *
+   * @param capacity number of latest samples to keep.
+   * @throws IllegalArgumentException if capacity is lower than 1.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public LatencyTracker(final int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be at least 1.");
+    }
+    this.samples = new AtomicLongArray(capacity);
+    this.count = new AtomicLong();
+    this.refreshInterval = Math.max(1, capacity / 16);
+  }
+
+  /**
+   * Record a latency.
+   *
+   * @param nanos latency in nanoseconds.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public void record(final long nanos) {
+    final long index = this.count.getAndIncrement();
+    this.samples.lazySet((int) (index % this.samples.length()), nanos);
+  }
+
+  /**
+   * Get number of samples recorded since creation.
+   *
+   * @return number of samples.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public long count() {
+    return this.count.get();
+  }
+
+  /**
+   * Calculate percentile of the kept samples.
+   *
+   * @param percentile to calculate. (e.g. 0.95 for p95)
+   * @return latency of percentile in nanoseconds, -1 if no sample was recorded yet.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public long percentile(@Range(from = 0, to = 1) final double percentile) {
+    return this.sort(this.count.get()).percentile(percentile);
+  }
+
+  /**
+   * Calculate percentile of the kept samples, the sorted samples are reused until a sixteenth of the capacity (at
+   * least one sample) was recorded since. Cheap enough to call for every call of a hot path.
+   *
+   * @param percentile to calculate. (e.g. 0.95 for p95)
+   * @return latency of percentile in nanoseconds, -1 if no sample was recorded yet.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public long cachedPercentile(@Range(from = 0, to = 1) final double percentile) {
+    final long currentCount = this.count.get();
+    Snapshot localSnapshot = this.snapshot;
+    if (localSnapshot == null || currentCount - localSnapshot.count() >= this.refreshInterval ||
+      (localSnapshot.sorted().length == 0 && currentCount > 0) /*First samples arrived.*/) {
+      localSnapshot = this.sort(currentCount);
+      this.snapshot = localSnapshot; //Concurrent refreshes only sort twice.
+    }
+    return localSnapshot.percentile(percentile);
+  }
+
+  /**
+   * Copy and sort kept samples.
+   *
+   * @param currentCount number of samples recorded at the time of sorting.
+   * @return sorted samples.
+   */
+  private @NotNull Snapshot sort(final long currentCount) {
+    final int size = (int) Math.min(currentCount, this.samples.length());
+    final long[] sorted = new long[size];
+    for (int i = 0; i < size; i++) {
+      sorted[i] = this.samples.get(i);
+    }
+    Arrays.sort(sorted);
+    return new Snapshot(currentCount, sorted);
+  }
+
+  /**
+   * Sorted samples.
+   *
+   * @param count  number of samples recorded at the time of sorting.
+   * @param sorted kept samples in ascending order.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private record Snapshot(long count,
+                          long @NotNull [] sorted) {
+    /**
+     * Get percentile of sorted samples.
+     *
+     * @param percentile to get.
+     * @return latency of percentile in nanoseconds, -1 if there are no samples.
+     */
+    private long percentile(final double percentile) {
+      if (this.sorted.length == 0) {
+        return -1; //No samples present.
+      }
+      final int index = (int) Math.ceil(Math.min(1D, Math.max(0D, percentile)) * this.sorted.length) - 1;
+      return this.sorted[Math.max(0, index)];
+    }
+  }
+}
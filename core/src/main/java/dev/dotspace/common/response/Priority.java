@@ -0,0 +1,22 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+
+/**
+ * Priority of a task submitted to a {@link PriorityExecutor}. Constants are ordered from highest to lowest.
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public enum Priority {
+  /**
+   * Interactive work, someone is waiting for it.
+   */
+  HIGH,
+  /**
+   * Default priority.
+   */
+  NORMAL,
+  /**
+   * Background and batch work.
+   */
+  LOW
+}
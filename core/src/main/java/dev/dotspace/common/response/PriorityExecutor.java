@@ -0,0 +1,24 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Executor that runs tasks by {@link Priority}. If the executor of a {@link CompletableResponse} implements this
+ * interface, {@link CompletableResponse#completeAsync(dev.dotspace.common.function.ThrowableSupplier, Priority)} submits
+ * with priority.
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public interface PriorityExecutor {
+  /**
+   * Run command with priority.
+   *
+   * @param command  to run.
+   * @param priority of command, null for the default of the executor.
+   * @throws NullPointerException                            if command is null.
+   * @throws java.util.concurrent.RejectedExecutionException if command can not be accepted.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  void execute(@Nullable final Runnable command,
+               @Nullable final Priority priority);
+}
@@ -126,6 +126,22 @@ public interface Response<TYPE> extends Future<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   @NotNull Response<TYPE> completeAsync(@Nullable final ThrowableSupplier<TYPE> typeSupplier);
 
+  /**
+   * Complete the response in another thread with priority. The priority is only used if the executor of the response is
+   * a {@link PriorityExecutor}, otherwise this is the same as {@link Response#completeAsync(ThrowableSupplier)}.
+   * Implementations without priorities ignore it.
+   *
+   * @param typeSupplier with the supplier the response will be completed asynchronously.
+   * @param priority     of the completion, null for the default of the executor.
+   * @return instance of this response.
+   * @throws NullPointerException if typeSupplier is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  default @NotNull Response<TYPE> completeAsync(@Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                                                @Nullable final Priority priority) {
+    return this.completeAsync(typeSupplier);
+  }
+
   /**
    * Completes the response with an error.
    *
@@ -169,6 +185,19 @@ public interface Response<TYPE> extends Future<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6")
   @NotNull Response<TYPE> sniffAsync(@Nullable final ResponseConsumer<TYPE> responseConsumer);
 
+  /**
+   * Like {@link Response#sniffAsync(ResponseConsumer)}, but the consumer is executed on the completing thread as long as
+   * consumers of its class are measured to be cheap. Implementations without measurement execute it asynchronously.
+   * See {@link CompletableResponse#adaptiveThreshold(java.util.concurrent.ExecutorService, java.time.Duration)}.
+   *
+   * @param responseConsumer is filled with the information and values when completing.
+   * @return instance of this response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  default @NotNull Response<TYPE> sniffAdaptive(@Nullable final ResponseConsumer<TYPE> responseConsumer) {
+    return this.sniffAsync(responseConsumer);
+  }
+
   /**
    * Executes the {@link Runnable} if the answer is completed in any way.
    *
@@ -187,6 +216,19 @@ public interface Response<TYPE> extends Future<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   @NotNull Response<TYPE> runAsync(@Nullable final ThrowableRunnable runnable);
 
+  /**
+   * Like {@link Response#runAsync(ThrowableRunnable)}, but the runnable is executed on the completing thread as long as
+   * runnables of its class are measured to be cheap. Implementations without measurement execute it asynchronously.
+   * See {@link CompletableResponse#adaptiveThreshold(java.util.concurrent.ExecutorService, java.time.Duration)}.
+   *
+   * @param runnable which is to be executed.
+   * @return instance of this response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  default @NotNull Response<TYPE> runAdaptive(@Nullable final ThrowableRunnable runnable) {
+    return this.runAsync(runnable);
+  }
+
   /**
    * Passes the response in the {@link Consumer} if it exists and is not null.
    *
@@ -205,6 +247,20 @@ public interface Response<TYPE> extends Future<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   @NotNull Response<TYPE> ifPresentAsync(@Nullable final ThrowableConsumer<@NotNull TYPE> consumer);
 
+  /**
+   * Like {@link Response#ifPresentAsync(ThrowableConsumer)}, but the consumer is executed on the completing thread as
+   * long as consumers of its class are measured to be cheap. Implementations without measurement execute it
+   * asynchronously. See
+   * {@link CompletableResponse#adaptiveThreshold(java.util.concurrent.ExecutorService, java.time.Duration)}.
+   *
+   * @param consumer is filled with the response.
+   * @return instance of this response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  default @NotNull Response<TYPE> ifPresentAdaptive(@Nullable final ThrowableConsumer<@NotNull TYPE> consumer) {
+    return this.ifPresentAsync(consumer);
+  }
+
   /**
    * <br>
    * <b>This method creates a new instance in response.
@@ -231,6 +287,50 @@ public interface Response<TYPE> extends Future<TYPE> {
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.6", updated = "1.0.8")
   @NotNull <MAP> Response<MAP> mapAsync(@Nullable final ThrowableFunction<TYPE, MAP> function);
 
+  /**
+   * Like {@link Response#mapAsync(ThrowableFunction)}, but the function is executed on the completing thread as long as
+   * functions of its class are measured to be cheap. Implementations without measurement execute it asynchronously.
+   * See {@link CompletableResponse#adaptiveThreshold(java.util.concurrent.ExecutorService, java.time.Duration)}.
+   *
+   * @param function is invoked to transform the response.
+   * @param <MAP>    the type into which the response should be converted.
+   * @return new instance created by the map method.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  default @NotNull <MAP> Response<MAP> mapAdaptive(@Nullable final ThrowableFunction<TYPE, MAP> function) {
+    return this.mapAsync(function);
+  }
+
+  /**
+   * Map the response to another {@link Response}. The returned instance is completed like the response created by the
+   * function, no thread waits for it.
+   * <br>
+   * <b>This method creates a new instance in response.
+   * Since asynchronous methods are also used, the application on this instance is not possible.</b>
+   * <br>
+   *
+   * @param function is invoked to create the next response.
+   * @param <MAP>    the type of the created response.
+   * @return new instance completed with the created response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @NotNull <MAP> Response<MAP> flatMap(@Nullable final ThrowableFunction<TYPE, Response<MAP>> function);
+
+  /**
+   * Map the response asynchronously to another {@link Response}. The returned instance is completed like the response
+   * created by the function, no thread waits for it.
+   * <br>
+   * <b>This method creates a new instance in response.
+   * Since asynchronous methods are also used, the application on this instance is not possible.</b>
+   * <br>
+   *
+   * @param function is invoked to create the next response.
+   * @param <MAP>    the type of the created response.
+   * @return new instance completed with the created response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @NotNull <MAP> Response<MAP> flatMapAsync(@Nullable final ThrowableFunction<TYPE, Response<MAP>> function);
+
   /**
    * Filter the {@link Response} if it is present and not null.
    * If typePredict is null, the new {@link Response} is completed with an error.
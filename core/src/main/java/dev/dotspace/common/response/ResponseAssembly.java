@@ -0,0 +1,142 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.exception.ResponseAssemblyException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records where response stages (map, filter, flatMap...) are registered. If a stage with a recorded site throws, a
+ * {@link ResponseAssemblyException} with the frames of the site is added as suppressed exception to the error. Without
+ * it, the stack trace of the error only shows the executor thread that ran the stage.
+ * <br>
+ * Recording is disabled by default. Once enabled, a sampled fraction of stages walks at most the configured number of
+ * frames with a {@link StackWalker}, no {@link Throwable} is filled in.
+ * <br>
+ * Example:
+ * <pre><code>
+ * ResponseAssembly.enable(0.1D, 8); //Record 8 frames for every 10th stage.
+ * </code></pre>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class ResponseAssembly {
+  /**
+   * Message of every {@link ResponseAssemblyException}.
+   */
+  private final static @NotNull String MESSAGE = "Response stage assembled at:";
+  /**
+   * Walker without class references, only names are needed.
+   */
+  private final static @NotNull StackWalker STACK_WALKER = StackWalker.getInstance();
+
+  /**
+   * Fraction of stages to record, 0 if disabled.
+   */
+  private static volatile double sampleRate;
+  /**
+   * Maximal number of recorded frames.
+   */
+  private static volatile int maxFrames;
+
+  /**
+   * Block default constructor.
+   */
+  private ResponseAssembly() {
+    //Nothing to see here.
+  }
+
+  /**
+   * Enable recording for a fraction of all registered stages.
+   *
+   * @param sampleRate fraction of stages to record, 1 to record every stage.
+   * @param maxFrames  maximal number of frames to record per stage.
+   * @throws IllegalArgumentException if sampleRate is not between 0 (exclusive) and 1 (inclusive) or maxFrames is not
+   *                                  positive.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static void enable(final double sampleRate,
+                            final int maxFrames) {
+    if (!(sampleRate > 0D && sampleRate <= 1D)) { //Also catches NaN.
+      throw new IllegalArgumentException("Sample rate must be greater than 0 and at most 1.");
+    }
+    if (maxFrames <= 0) {
+      throw new IllegalArgumentException("MaxFrames must be positive.");
+    }
+    ResponseAssembly.maxFrames = maxFrames;
+    ResponseAssembly.sampleRate = sampleRate; //Written last, enables capture.
+  }
+
+  /**
+   * Disable recording for new stages. Already recorded sites are still attached.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static void disable() {
+    sampleRate = 0D;
+  }
+
+  /**
+   * Check if recording is enabled.
+   *
+   * @return true, if stages are sampled.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static boolean enabled() {
+    return sampleRate > 0D;
+  }
+
+  /**
+   * Record the current assembly site if sampled. Called on creation of every {@link ResponseFunctionExecutor}.
+   *
+   * @return frames of the caller outside of this library's response classes, null if disabled or not sampled.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  static @Nullable StackTraceElement[] capture() {
+    final double localSampleRate = sampleRate;
+    if (localSampleRate <= 0D || (localSampleRate < 1D && ThreadLocalRandom.current().nextDouble() >= localSampleRate)) {
+      return null; //Disabled or not sampled.
+    }
+
+    final int localMaxFrames = maxFrames;
+    return STACK_WALKER.walk(stream -> stream
+      .dropWhile(frame -> internal(frame.getClassName())) //Start at the caller of map, filter...
+      .limit(localMaxFrames)
+      .map(StackWalker.StackFrame::toStackTraceElement)
+      .toArray(StackTraceElement[]::new));
+  }
+
+  /**
+   * Add recorded site to throwable.
+   *
+   * @param throwable  error of stage.
+   * @param stackTrace recorded site, nothing is added if null.
+   * @return throwable.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  static @NotNull Throwable attach(@NotNull final Throwable throwable,
+                                   @Nullable final StackTraceElement[] stackTrace) {
+    if (stackTrace == null) {
+      return throwable;
+    }
+    for (final Throwable suppressed : throwable.getSuppressed()) {
+      if (suppressed instanceof ResponseAssemblyException) {
+        return throwable; //Shared or rethrown error, keep the first site.
+      }
+    }
+    throwable.addSuppressed(new ResponseAssemblyException(MESSAGE, stackTrace));
+    return throwable;
+  }
+
+  /**
+   * Check if class takes part in registering a stage.
+   *
+   * @param className to check.
+   * @return true, if frame should be skipped.
+   */
+  private static boolean internal(@NotNull final String className) {
+    return className.startsWith(CompletableResponse.class.getName()) /*Including stages.*/ ||
+      className.equals(ResponseFunctionExecutor.class.getName()) ||
+      className.equals(ResponseAssembly.class.getName());
+  }
+}
@@ -0,0 +1,211 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.SpaceObjects;
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.function.ThrowableFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Coalesces single loads into bulk calls. Keys given to {@link ResponseBatcher#load(Object)} are buffered until
+ * the maximal batch size or the maximal delay is reached, then the bulk function is called once with every buffered
+ * key and each {@link CompletableResponse} is completed with the value of its key.
+ * <br>
+ * Example:
+ * <pre><code>
+ * final ResponseBatcher&lt;Long, User&gt; batcher = new ResponseBatcher&lt;&gt;(userRepository::findAllById, 100, Duration.ofMillis(5));
+ *
+ * batcher.load(1L).ifPresent(user -&gt; ...); //Both loads are executed with one call of findAllById.
+ * batcher.load(2L).ifPresent(user -&gt; ...);
+ * </code></pre>
+ *
+ * @param <KEY>   type of keys to load.
+ * @param <VALUE> type of loaded values.
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class ResponseBatcher<KEY, VALUE> {
+  /**
+   * Function to load all keys of a batch. Keys missing in the returned map are completed with null.
+   */
+  private final @NotNull ThrowableFunction<Collection<KEY>, Map<KEY, VALUE>> bulkFunction;
+  /**
+   * Number of keys to dispatch a batch directly.
+   */
+  private final int maxBatchSize;
+  /**
+   * Time the first key of a batch waits at most.
+   */
+  private final long maxDelayNanos;
+  /**
+   * Executor to run bulkFunction with, null for the default of {@link CompletableResponse}.
+   */
+  private final @Nullable ExecutorService executorService;
+
+  /**
+   * Keys of current batch with their responses, in order of first load.
+   */
+  private @NotNull Map<KEY, CompletableResponse<VALUE>> pending;
+  /**
+   * Flush of current batch, scheduled with the first key.
+   */
+  private @Nullable ScheduledFuture<?> scheduledFlush;
+
+  /**
+   * Create batcher that runs bulkFunction with the default executor of {@link CompletableResponse}.
+   *
+   * @param bulkFunction to load all keys of a batch.
+   * @param maxBatchSize number of keys to dispatch a batch directly.
+   * @param maxDelay     time the first key of a batch waits at most.
+   * @throws NullPointerException     if bulkFunction or maxDelay is null.
+   * @throws IllegalArgumentException if maxBatchSize is lower than 1.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public ResponseBatcher(@Nullable final ThrowableFunction<Collection<KEY>, Map<KEY, VALUE>> bulkFunction,
+                         final int maxBatchSize,
+                         @Nullable final Duration maxDelay) {
+    this(bulkFunction, maxBatchSize, maxDelay, null);
+  }
+
+  /**
+   * Create batcher.
+   *
+   * @param bulkFunction    to load all keys of a batch.
+   * @param maxBatchSize    number of keys to dispatch a batch directly.
+   * @param maxDelay        time the first key of a batch waits at most.
+   * @param executorService to run bulkFunction with, null for the default of {@link CompletableResponse}.
+   * @throws NullPointerException     if bulkFunction or maxDelay is null.
+   * @throws IllegalArgumentException if maxBatchSize is lower than 1.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public ResponseBatcher(@Nullable final ThrowableFunction<Collection<KEY>, Map<KEY, VALUE>> bulkFunction,
+                         final int maxBatchSize,
+                         @Nullable final Duration maxDelay,
+                         @Nullable final ExecutorService executorService) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be at least 1.");
+    }
+    this.bulkFunction = SpaceObjects.throwIfNull(bulkFunction, "Given bulkFunction is null.");
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = SpaceObjects.throwIfNull(maxDelay, "Given maxDelay is null.").toNanos();
+    this.executorService = executorService;
+    this.pending = new LinkedHashMap<>();
+  }
+
+  /**
+   * Load value of key with the next batch. Loading the same key more than once in a batch returns the same response.
+   *
+   * @param key to load.
+   * @return response that is completed once the batch of key was loaded.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull CompletableResponse<VALUE> load(@Nullable final KEY key) {
+    final CompletableResponse<VALUE> response;
+    Map<KEY, CompletableResponse<VALUE>> batch = null;
+
+    synchronized (this) {
+      CompletableResponse<VALUE> pendingResponse = this.pending.get(key);
+      if (pendingResponse == null) { //First load of key in this batch.
+        pendingResponse = new CompletableResponse<>(this.executorService);
+        this.pending.put(key, pendingResponse);
+      }
+      response = pendingResponse;
+
+      if (this.pending.size() >= this.maxBatchSize) { //Batch is full.
+        batch = this.takeBatch();
+      } else if (this.scheduledFlush == null) { //First key of batch.
+        final Map<KEY, CompletableResponse<VALUE>> scheduledBatch = this.pending; //Identity of batch.
+        this.scheduledFlush = ResponseScheduler.schedule(() -> this.flush(scheduledBatch), this.maxDelayNanos);
+      }
+    }
+
+    if (batch != null) {
+      this.dispatch(batch);
+    }
+    return response;
+  }
+
+  /**
+   * Dispatch current batch directly, without waiting for size or delay.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public void flush() {
+    final Map<KEY, CompletableResponse<VALUE>> batch;
+    synchronized (this) {
+      batch = this.takeBatch();
+    }
+    this.dispatch(batch);
+  }
+
+  /**
+   * Dispatch batch once its delay is over. Does nothing if batch was already taken, a flush that fired while its batch
+   * was dispatched must not take the next batch early.
+   *
+   * @param scheduledBatch batch the flush was scheduled for.
+   */
+  private void flush(@NotNull final Map<KEY, CompletableResponse<VALUE>> scheduledBatch) {
+    final Map<KEY, CompletableResponse<VALUE>> batch;
+    synchronized (this) {
+      if (this.pending != scheduledBatch) {
+        return; //Stale flush, cancel came too late.
+      }
+      batch = this.takeBatch();
+    }
+    this.dispatch(batch);
+  }
+
+  /**
+   * Get number of keys waiting for the next batch.
+   *
+   * @return number of keys.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized int pending() {
+    return this.pending.size();
+  }
+
+  /**
+   * Remove current batch and cancel its scheduled flush. Has to be called with lock.
+   *
+   * @return current batch.
+   */
+  private @NotNull Map<KEY, CompletableResponse<VALUE>> takeBatch() {
+    final Map<KEY, CompletableResponse<VALUE>> batch = this.pending;
+    this.pending = new LinkedHashMap<>();
+    if (this.scheduledFlush != null) {
+      this.scheduledFlush.cancel(false);
+      this.scheduledFlush = null;
+    }
+    return batch;
+  }
+
+  /**
+   * Run bulkFunction for batch asynchronous and complete every response of it.
+   *
+   * @param batch to load.
+   */
+  private void dispatch(@NotNull final Map<KEY, CompletableResponse<VALUE>> batch) {
+    if (batch.isEmpty()) {
+      return; //Nothing to load.
+    }
+
+    new CompletableResponse<Map<KEY, VALUE>>(this.executorService)
+      .completeAsync(() -> this.bulkFunction.apply(Collections.unmodifiableSet(batch.keySet())))
+      .sniff((state, values, throwable) -> {
+        for (final Map.Entry<KEY, CompletableResponse<VALUE>> entry : batch.entrySet()) {
+          if (state == State.COMPLETED_EXCEPTIONALLY) {
+            entry.getValue().completeExceptionally(throwable);
+          } else {
+            entry.getValue().complete(values != null ? values.get(entry.getKey()) : null);
+          }
+        }
+      });
+  }
+}
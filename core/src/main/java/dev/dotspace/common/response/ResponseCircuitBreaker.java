@@ -0,0 +1,321 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.function.ThrowableConsumer;
+import lombok.Builder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker for {@link ResponseService}. Calls are counted in a sliding window of the latest calls, if the rate
+ * of failed or slow calls reaches its threshold, the circuit opens and calls are rejected without execution.
+ * After the open duration, a limited number of calls is permitted (half open) to decide whether to close the circuit
+ * again.
+ * <br>
+ * Build instances with {@link ResponseCircuitBreaker#builder()}. Values that are not set use the defaults below.
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class ResponseCircuitBreaker {
+  private final static int DEFAULT_WINDOW_SIZE = 100;
+  private final static int DEFAULT_MINIMUM_CALLS = 10;
+  private final static double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5D;
+  private final static @NotNull Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(60);
+  private final static @NotNull Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(60);
+  private final static int DEFAULT_PERMITTED_HALF_OPEN_CALLS = 10;
+
+  /**
+   * Flag of a failed call in {@link ResponseCircuitBreaker#window}.
+   */
+  private final static byte FAILED = 1;
+  /**
+   * Flag of a slow call in {@link ResponseCircuitBreaker#window}.
+   */
+  private final static byte SLOW = 2;
+
+  /**
+   * Minimum number of calls in window before rates are evaluated.
+   */
+  private final int minimumCalls;
+  /**
+   * Rate of failed calls to open the circuit. (0 to 1)
+   */
+  private final double failureRateThreshold;
+  /**
+   * Rate of slow calls to open the circuit. (0 to 1)
+   */
+  private final double slowCallRateThreshold;
+  /**
+   * Calls taking at least this time are slow.
+   */
+  private final long slowCallNanos;
+  /**
+   * Time the circuit stays open before calls are permitted again.
+   */
+  private final long openNanos;
+  /**
+   * Number of calls permitted in half open state.
+   */
+  private final int permittedHalfOpenCalls;
+  /**
+   * Consumer to hand over every state transition, for monitoring.
+   */
+  private final @Nullable ThrowableConsumer<Transition> transitionConsumer;
+
+  /**
+   * Outcome flags of the latest calls.
+   */
+  private final byte[] window;
+  private int windowIndex;
+  private int windowCalls;
+  private int failedCalls;
+  private int slowCalls;
+
+  private @NotNull CircuitState state;
+  private long openedAt;
+  private int halfOpenPermits;
+
+  /**
+   * Create instance, missing values are replaced with default values.
+   *
+   * @param windowSize             number of latest calls to evaluate.
+   * @param minimumCalls           minimum number of calls in window before rates are evaluated.
+   * @param failureRateThreshold   rate of failed calls to open the circuit. (0 to 1)
+   * @param slowCallRateThreshold  rate of slow calls to open the circuit. (0 to 1, disabled if not set)
+   * @param slowCallDuration       calls taking at least this time are slow.
+   * @param openDuration           time the circuit stays open before calls are permitted again.
+   * @param permittedHalfOpenCalls number of calls permitted in half open state.
+   * @param transitionConsumer     consumer to hand over every state transition.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Builder
+  private ResponseCircuitBreaker(final int windowSize,
+                                 final int minimumCalls,
+                                 final double failureRateThreshold,
+                                 final double slowCallRateThreshold,
+                                 @Nullable final Duration slowCallDuration,
+                                 @Nullable final Duration openDuration,
+                                 final int permittedHalfOpenCalls,
+                                 @Nullable final ThrowableConsumer<Transition> transitionConsumer) {
+    this.window = new byte[windowSize > 0 ? windowSize : DEFAULT_WINDOW_SIZE];
+    this.minimumCalls = Math.min(this.window.length, minimumCalls > 0 ? minimumCalls : DEFAULT_MINIMUM_CALLS);
+    this.failureRateThreshold = failureRateThreshold > 0 ? failureRateThreshold : DEFAULT_FAILURE_RATE_THRESHOLD;
+    this.slowCallRateThreshold = slowCallRateThreshold > 0 ? slowCallRateThreshold : Double.MAX_VALUE /*Disabled.*/;
+    this.slowCallNanos = (slowCallDuration != null ? slowCallDuration : DEFAULT_SLOW_CALL_DURATION).toNanos();
+    this.openNanos = (openDuration != null ? openDuration : DEFAULT_OPEN_DURATION).toNanos();
+    this.permittedHalfOpenCalls = Math.min(this.window.length,
+      permittedHalfOpenCalls > 0 ? permittedHalfOpenCalls : DEFAULT_PERMITTED_HALF_OPEN_CALLS);
+    this.transitionConsumer = transitionConsumer;
+    this.state = CircuitState.CLOSED;
+  }
+
+  /**
+   * Check if a call is permitted. Every permitted call should be recorded with
+   * {@link ResponseCircuitBreaker#record(long, boolean)}.
+   *
+   * @return true, if the call may be executed.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public boolean tryAcquire() {
+    final Transition transition;
+    synchronized (this) {
+      if (this.state == CircuitState.CLOSED) {
+        return true;
+      }
+      if (this.state == CircuitState.OPEN) {
+        if (System.nanoTime() - this.openedAt < this.openNanos) {
+          return false; //Still open.
+        }
+        transition = this.transition(CircuitState.HALF_OPEN);
+        this.halfOpenPermits = this.permittedHalfOpenCalls;
+      } else {
+        transition = null;
+      }
+      if (this.halfOpenPermits == 0) {
+        return false; //Every call of half open state is in use.
+      }
+      this.halfOpenPermits--;
+    }
+    this.publish(transition);
+    return true;
+  }
+
+  /**
+   * Give back the permit of a call that was never executed, e.g. because its response was canceled or the executor
+   * rejected it. Without, a circuit in half open state would wait for its outcome forever.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized void release() {
+    if (this.state == CircuitState.HALF_OPEN && this.halfOpenPermits < this.permittedHalfOpenCalls - this.windowCalls) {
+      this.halfOpenPermits++; //Closed state has no permits to give back.
+    }
+  }
+
+  /**
+   * Record the outcome of a permitted call.
+   *
+   * @param durationNanos time the call took.
+   * @param failed        true, if the call failed.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public void record(final long durationNanos,
+                     final boolean failed) {
+    final Transition transition;
+    synchronized (this) {
+      if (this.state == CircuitState.OPEN) {
+        return; //Late call of a previous state.
+      }
+      this.push((byte) ((failed ? FAILED : 0) | (durationNanos >= this.slowCallNanos ? SLOW : 0)));
+
+      if (this.state == CircuitState.HALF_OPEN) {
+        if (this.windowCalls < this.permittedHalfOpenCalls) {
+          return; //Wait for remaining calls of half open state.
+        }
+        transition = this.transition(this.thresholdReached() ? CircuitState.OPEN : CircuitState.CLOSED);
+      } else if (this.windowCalls >= this.minimumCalls && this.thresholdReached()) {
+        transition = this.transition(CircuitState.OPEN);
+      } else {
+        return;
+      }
+    }
+    this.publish(transition);
+  }
+
+  /**
+   * Get current state. An open circuit whose open duration is over stays open until the next
+   * {@link ResponseCircuitBreaker#tryAcquire()}.
+   *
+   * @return current {@link CircuitState}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized @NotNull CircuitState state() {
+    return this.state;
+  }
+
+  /**
+   * Get rate of failed calls in the current window.
+   *
+   * @return rate between 0 and 1, 0 if no call is in window.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized double failureRate() {
+    return this.windowCalls == 0 ? 0D : (double) this.failedCalls / this.windowCalls;
+  }
+
+  /**
+   * Get rate of slow calls in the current window.
+   *
+   * @return rate between 0 and 1, 0 if no call is in window.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized double slowCallRate() {
+    return this.windowCalls == 0 ? 0D : (double) this.slowCalls / this.windowCalls;
+  }
+
+  /**
+   * Add outcome to window, overwrite the oldest one if full. Has to be called with lock.
+   *
+   * @param outcome flags of call.
+   */
+  private void push(final byte outcome) {
+    if (this.windowCalls == this.window.length) { //Remove oldest outcome.
+      this.count(this.window[this.windowIndex], -1);
+    } else {
+      this.windowCalls++;
+    }
+    this.window[this.windowIndex] = outcome;
+    this.count(outcome, 1);
+    this.windowIndex = (this.windowIndex + 1) % this.window.length;
+  }
+
+  /**
+   * Update counters with outcome. Has to be called with lock.
+   */
+  private void count(final byte outcome,
+                     final int delta) {
+    if ((outcome & FAILED) != 0) {
+      this.failedCalls += delta;
+    }
+    if ((outcome & SLOW) != 0) {
+      this.slowCalls += delta;
+    }
+  }
+
+  /**
+   * Check rates of window. Has to be called with lock.
+   *
+   * @return true, if failure or slow call rate reached its threshold.
+   */
+  private boolean thresholdReached() {
+    return this.failureRate() >= this.failureRateThreshold || this.slowCallRate() >= this.slowCallRateThreshold;
+  }
+
+  /**
+   * Change state and reset window. Has to be called with lock.
+   *
+   * @param state to change to.
+   * @return transition to publish.
+   */
+  private @NotNull Transition transition(@NotNull final CircuitState state) {
+    final Transition transition = new Transition(this.state, state, this.failureRate(), this.slowCallRate());
+    this.state = state;
+    this.openedAt = System.nanoTime();
+    this.windowIndex = 0;
+    this.windowCalls = 0;
+    this.failedCalls = 0;
+    this.slowCalls = 0;
+    return transition;
+  }
+
+  /**
+   * Hand over transition to consumer, outside of lock.
+   *
+   * @param transition to publish, ignored if null.
+   */
+  private void publish(@Nullable final Transition transition) {
+    final ThrowableConsumer<Transition> localTransitionConsumer = this.transitionConsumer;
+    if (transition == null || localTransitionConsumer == null) {
+      return;
+    }
+    try {
+      localTransitionConsumer.accept(transition);
+    } catch (final Throwable throwable) {
+      throwable.printStackTrace(); //Print errors.
+    }
+  }
+
+  /**
+   * States of a {@link ResponseCircuitBreaker}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public enum CircuitState {
+    /**
+     * Calls are permitted and recorded.
+     */
+    CLOSED,
+    /**
+     * Calls are rejected.
+     */
+    OPEN,
+    /**
+     * A limited number of calls is permitted to decide the next state.
+     */
+    HALF_OPEN
+  }
+
+  /**
+   * Change of {@link CircuitState}.
+   *
+   * @param from         previous state.
+   * @param to           new state.
+   * @param failureRate  rate of failed calls that lead to the transition.
+   * @param slowCallRate rate of slow calls that lead to the transition.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public record Transition(@NotNull CircuitState from,
+                           @NotNull CircuitState to,
+                           double failureRate,
+                           double slowCallRate) {
+  }
+}
@@ -0,0 +1,176 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.SpaceArrays;
+import dev.dotspace.common.SpaceObjects;
+import dev.dotspace.common.annotation.LibraryInformation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Propagates request scoped context (trace ids, tenant, deadline...) into asynchronous stages of
+ * {@link CompletableResponse}. The context is captured when an asynchronous stage is created and restored around its
+ * execution on the executor.
+ * <br>
+ * Example:
+ * <pre><code>
+ * final ThreadLocal&lt;String&gt; traceId = new ThreadLocal&lt;&gt;();
+ * ResponseContext.register(new ResponseContext.ThreadLocalProvider&lt;&gt;(traceId));
+ *
+ * traceId.set("trace-1");
+ * new CompletableResponse&lt;String&gt;().completeAsync(traceId::get); //Completed with "trace-1".
+ * </code></pre>
+ * Without registered providers capturing is a single volatile read.
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class ResponseContext {
+  /**
+   * Registered providers, replaced on every change.
+   */
+  private static volatile @NotNull Provider<?>[] providers = new Provider<?>[0];
+
+  /**
+   * Block default constructor.
+   */
+  private ResponseContext() {
+    //Nothing to see here.
+  }
+
+  /**
+   * Register provider to capture and restore its context for every asynchronous stage.
+   *
+   * @param provider to register.
+   * @throws NullPointerException if provider is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static synchronized void register(@Nullable final Provider<?> provider) {
+    providers = SpaceArrays.push(providers, SpaceObjects.throwIfNull(provider, "Given provider is null."));
+  }
+
+  /**
+   * Remove provider, does nothing if provider is not registered.
+   *
+   * @param provider to remove.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static synchronized void unregister(@Nullable final Provider<?> provider) {
+    providers = Arrays.stream(providers)
+      .filter(registered -> registered != provider)
+      .toArray(Provider<?>[]::new);
+  }
+
+  /**
+   * Capture the context of the current thread and restore it around runnable.
+   *
+   * @param runnable to wrap.
+   * @return runnable that executes with the captured context. If no provider is registered, runnable itself.
+   * @throws NullPointerException if runnable is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static @NotNull Runnable wrap(@Nullable final Runnable runnable) {
+    SpaceObjects.throwIfNull(runnable, "Given runnable is null.");
+    final Provider<?>[] localProviders = providers;
+    if (localProviders.length == 0) {
+      return runnable; //Nothing to capture.
+    }
+
+    final Object[] snapshot = new Object[localProviders.length];
+    for (int i = 0; i < localProviders.length; i++) {
+      snapshot[i] = localProviders[i].capture();
+    }
+
+    return () -> {
+      final Object[] previous = restore(localProviders, snapshot);
+      try {
+        runnable.run();
+      } finally {
+        restore(localProviders, previous);
+      }
+    };
+  }
+
+  /**
+   * Restore values to providers.
+   *
+   * @param localProviders to restore values to.
+   * @param values         to restore, same index as provider.
+   * @return values that were present before.
+   */
+  private static @NotNull Object[] restore(@NotNull final Provider<?>[] localProviders,
+                                           @NotNull final Object[] values) {
+    final Object[] previous = new Object[localProviders.length];
+    for (int i = 0; i < localProviders.length; i++) {
+      previous[i] = restore(localProviders[i], values[i]);
+    }
+    return previous;
+  }
+
+  /**
+   * Restore value to provider.
+   *
+   * @param provider to restore value to.
+   * @param value    captured by provider.
+   * @param <TYPE>   type of the context.
+   * @return value that was present before.
+   */
+  @SuppressWarnings("unchecked")
+  private static <TYPE> @Nullable TYPE restore(@NotNull final Provider<TYPE> provider,
+                                               @Nullable final Object value) {
+    return provider.restore((TYPE) value); //Value was captured by the same provider.
+  }
+
+  /**
+   * Source of context to propagate.
+   *
+   * @param <TYPE> type of the captured context.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public interface Provider<TYPE> {
+    /**
+     * Capture context of the current thread.
+     *
+     * @return captured context, null if none.
+     */
+    @Nullable TYPE capture();
+
+    /**
+     * Set context of the current thread.
+     *
+     * @param context to set, null to clear.
+     * @return context that was set before.
+     */
+    @Nullable TYPE restore(@Nullable final TYPE context);
+  }
+
+  /**
+   * {@link Provider} for a {@link ThreadLocal}.
+   *
+   * @param threadLocal to propagate.
+   * @param <TYPE>      type of the thread local value.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public record ThreadLocalProvider<TYPE>(@NotNull ThreadLocal<TYPE> threadLocal) implements Provider<TYPE> {
+    /**
+     * @see Provider#capture()
+     */
+    @Override
+    public @Nullable TYPE capture() {
+      return this.threadLocal.get();
+    }
+
+    /**
+     * @see Provider#restore(Object)
+     */
+    @Override
+    public @Nullable TYPE restore(@Nullable final TYPE context) {
+      final TYPE previous = this.threadLocal.get();
+      if (context == null) {
+        this.threadLocal.remove(); //Do not leave empty values in pool threads.
+      } else {
+        this.threadLocal.set(context);
+      }
+      return previous;
+    }
+  }
+}
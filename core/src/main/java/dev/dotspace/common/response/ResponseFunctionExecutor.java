@@ -4,70 +4,229 @@ import dev.dotspace.common.annotation.LibraryInformation;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
 
 /**
- * Implementation of {@link ResponseFunction}, used for {@link CompletableResponse}.
- *
- * @see ResponseFunction
+ * Base of all stages registered on a {@link CompletableResponse}. Each operation (ifPresent, map, sniff...) has its own
+ * subclass, so a registration allocates only the stage itself.
+ * <br>
+ * The stage is triggered with the result of the response, it does not hold the response it is registered on.
  */
-@LibraryInformation(state = LibraryInformation.State.STABLE, access = LibraryInformation.Access.INTERNAL, since = "1.0.6")
-final class ResponseFunctionExecutor<TYPE> implements ResponseFunction<TYPE> {
+@LibraryInformation(state = LibraryInformation.State.STABLE, access = LibraryInformation.Access.INTERNAL, since = "1.0.6", updated = "1.0.9")
+abstract class ResponseFunctionExecutor implements Runnable {
   /**
-   * Supplier with execution value, if true runnable will be executed.
+   * Maximal number of asynchronous runnables submitted as one task by {@link ResponseFunctionExecutor#dispatch(ExecutorService, Runnable[], int)}.
    */
-  private final @Nullable Supplier<Boolean> checkIfExecutable;
+  static final int DISPATCH_CHUNK_SIZE = 16;
+
   /**
-   * Runnable to execute.
+   * Bitmask of {@link State#mask()} values this stage is executed for.
    */
-  private final @NotNull Runnable runnable;
+  private final int stateMask;
   /**
-   * If true runnable will be executed in another thread, not main one.
+   * If true stage will be executed in another thread, not main one.
    */
   private final boolean async;
+  /**
+   * Stage wrapped with the {@link ResponseContext} captured on creation, null if there was no context to capture.
+   */
+  private final @Nullable Runnable contextRunnable;
+  /**
+   * Frames of the site this stage was registered at, null if not recorded. See {@link ResponseAssembly}.
+   */
+  private final @Nullable StackTraceElement[] assembly;
+  /**
+   * Cost of the function class if stage is adaptive, null otherwise.
+   */
+  private @Nullable StageCost stageCost;
+  /**
+   * Result of the response, set once the stage is triggered.
+   */
+  private @Nullable Object result;
+  /**
+   * Stage registered before this one on the same response, only changed with the lock of the response.
+   */
+  @Nullable ResponseFunctionExecutor next;
 
   /**
    * Creates instance with all needed values.
    *
-   * @param checkIfExecutable condition to check on execute.
-   * @param runnable          to run.
-   * @param async             true, if {@link Runnable} should be executed asynchronous.
+   * @param stateMask bitmask of states to execute stage for.
+   * @param async     true, if stage should be executed asynchronous.
    */
-  @LibraryInformation(state = LibraryInformation.State.STABLE, access = LibraryInformation.Access.INTERNAL, since = "1.0.6")
-  ResponseFunctionExecutor(@Nullable final Supplier<Boolean> checkIfExecutable,
-                           @NotNull Runnable runnable,
+  @LibraryInformation(state = LibraryInformation.State.STABLE, access = LibraryInformation.Access.INTERNAL, since = "1.0.6", updated = "1.0.9")
+  ResponseFunctionExecutor(final int stateMask,
                            final boolean async) {
-    this.checkIfExecutable = checkIfExecutable;
-    this.runnable = runnable;
+    this.stateMask = stateMask;
     this.async = async;
+    final Runnable wrapped = async ? ResponseContext.wrap(this) /*Capture context of registering thread.*/ : this;
+    this.contextRunnable = wrapped == this ? null : wrapped;
+    this.assembly = ResponseAssembly.capture();
   }
 
   /**
-   * Create instance with no checkIfExecutable.
+   * Add the recorded registration site of this stage to throwable, if present.
    *
-   * @param runnable to run.
-   * @param async    true, if {@link Runnable} should be executed asynchronous.
+   * @param throwable thrown by the operation of this stage.
+   * @return throwable.
    */
-  @LibraryInformation(state = LibraryInformation.State.STABLE, access = LibraryInformation.Access.INTERNAL, since = "1.0.6")
-  ResponseFunctionExecutor(@NotNull Runnable runnable,
-                           final boolean async) {
-    this(null, runnable, async);
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  @NotNull Throwable assembled(@NotNull final Throwable throwable) {
+    return ResponseAssembly.attach(throwable, this.assembly);
   }
 
   /**
-   * @see ResponseFunction#run(ExecutorService)
+   * Make stage adaptive: it is executed on the completing thread while functions of its class are cheap, otherwise with
+   * the executor. Has to be called before the stage is registered, stage has to be created as async.
+   *
+   * @param function executed by stage, its class is used to measure the cost.
+   * @return this stage.
    */
-  @LibraryInformation(state = LibraryInformation.State.STABLE, access = LibraryInformation.Access.INTERNAL, since = "1.0.6")
-  @Override
-  public void run(@Nullable final ExecutorService executorService) {
-    if (this.checkIfExecutable != null && !this.checkIfExecutable.get()) { //Do not execute if checkIfExecutable is present a result is true.
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  @NotNull ResponseFunctionExecutor adaptive(@NotNull final Object function) {
+    this.stageCost = StageCost.of(function);
+    return this;
+  }
+
+  /**
+   * Check if this executor should be executed asynchronous. Adaptive stages are only asynchronous if their function
+   * class is not cheap for the threshold of executorService.
+   *
+   * @param executorService the stage would be executed with.
+   * @return true, if runnable is meant to run with an executor.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  boolean async(@NotNull final ExecutorService executorService) {
+    final StageCost localStageCost = this.stageCost;
+    return this.async && (localStageCost == null || !localStageCost.cheap(StageCost.threshold(executorService)));
+  }
+
+  /**
+   * Trigger stage with the result of the response. Used to group asynchronous stages into one task.
+   *
+   * @param state  state of the response.
+   * @param result encoded result of the response.
+   * @return runnable to run the stage, null if stage is not executed for state.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  @Nullable Runnable trigger(@NotNull final State state,
+                             @Nullable final Object result) {
+    if ((this.stateMask & state.mask()) == 0) {
+      return null; //Not executed for state.
+    }
+    this.result = result; //Published to executor thread with submission.
+    return this.contextRunnable != null ? this.contextRunnable : this;
+  }
+
+  /**
+   * Trigger and execute stage, with executorService if async.
+   *
+   * @param state           state of the response.
+   * @param result          encoded result of the response.
+   * @param executorService to run asynchronous stage with.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  void fire(@NotNull final State state,
+            @Nullable final Object result,
+            @NotNull final ExecutorService executorService) {
+    final Runnable runnable = this.trigger(state, result);
+    if (runnable == null) {
       return;
     }
-    if (this.async && executorService != null) { //If async is true and executorService is present, run with executorService.
-      executorService.execute(this.runnable);
+    if (this.async(executorService)) {
+      executorService.execute(runnable);
     } else {
-      this.runnable.run(); //Run default.
+      runnable.run();
     }
   }
+
+  /**
+   * Submit runnables to executorService in tasks of up to {@link ResponseFunctionExecutor#DISPATCH_CHUNK_SIZE}
+   * runnables instead of one task per runnable.
+   *
+   * @param executorService to submit tasks to.
+   * @param runnables       to run, only the first count elements are used.
+   * @param count           number of runnables to run.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  static void dispatch(@NotNull final ExecutorService executorService,
+                       @NotNull final Runnable[] runnables,
+                       final int count) {
+    if (count == 1) {
+      executorService.execute(runnables[0]); //No need to wrap a single runnable.
+      return;
+    }
+
+    for (int start = 0; start < count; start += DISPATCH_CHUNK_SIZE) {
+      final Runnable[] chunk = Arrays.copyOfRange(runnables, start, Math.min(count, start + DISPATCH_CHUNK_SIZE));
+      executorService.execute(() -> runChunk(chunk));
+    }
+  }
+
+  /**
+   * Run every runnable of chunk, an error of one runnable does not stop the following ones.
+   *
+   * @param chunk to run.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static void runChunk(@NotNull final Runnable[] chunk) {
+    RuntimeException runtimeException = null;
+    Error error = null;
+
+    for (final Runnable runnable : chunk) {
+      try {
+        runnable.run();
+      } catch (final RuntimeException exception) {
+        if (runtimeException == null) {
+          runtimeException = exception;
+        } else {
+          runtimeException.addSuppressed(exception);
+        }
+      } catch (final Error thrownError) {
+        if (error == null) {
+          error = thrownError;
+        } else {
+          error.addSuppressed(thrownError);
+        }
+      }
+    }
+
+    //Rethrow like a single submitted runnable would.
+    if (error != null) {
+      if (runtimeException != null) {
+        error.addSuppressed(runtimeException);
+      }
+      throw error;
+    }
+    if (runtimeException != null) {
+      throw runtimeException;
+    }
+  }
+
+  /**
+   * Run stage with the result it was triggered with. The time of adaptive stages is measured.
+   */
+  @Override
+  public final void run() {
+    final StageCost localStageCost = this.stageCost;
+    if (localStageCost == null) {
+      this.execute(this.result);
+      return;
+    }
+    final long start = System.nanoTime();
+    try {
+      this.execute(this.result);
+    } finally {
+      localStageCost.record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Execute operation of stage.
+   *
+   * @param result encoded result of the response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  abstract void execute(@Nullable final Object result);
 }
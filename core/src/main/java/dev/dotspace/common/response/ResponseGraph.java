@@ -0,0 +1,413 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.SpaceObjects;
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.function.ThrowableFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs named tasks with dependencies. Every task is started as soon as all of its dependencies are completed, the
+ * result of each task is available as {@link CompletableResponse}.
+ * <br>
+ * If a task fails or is canceled, every task that depends on it (directly or indirectly) is canceled.
+ * <br>
+ * Example:
+ * <pre><code>
+ * final ResponseGraph graph = new ResponseGraph()
+ *   .task("user", inputs -&gt; loadUser())
+ *   .task("orders", inputs -&gt; loadOrders(inputs.get("user")), "user")
+ *   .task("invoice", inputs -&gt; createInvoice(inputs.get("user"), inputs.get("orders")), "user", "orders");
+ *
+ * graph.run().ifPresent(report -&gt; System.out.println(report.criticalPath()));
+ * </code></pre>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class ResponseGraph {
+  /**
+   * Executor to run tasks with, null for the default of {@link CompletableResponse}.
+   */
+  private final @Nullable ExecutorService executorService;
+  /**
+   * Declared tasks, in order of declaration.
+   */
+  private final @NotNull Map<String, Node<?>> nodes;
+  /**
+   * True once {@link ResponseGraph#run()} was called.
+   */
+  private boolean started;
+
+  /**
+   * Create graph that runs tasks with the default executor of {@link CompletableResponse}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public ResponseGraph() {
+    this(null);
+  }
+
+  /**
+   * Create graph.
+   *
+   * @param executorService to run tasks with, null for the default of {@link CompletableResponse}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public ResponseGraph(@Nullable final ExecutorService executorService) {
+    this.executorService = executorService;
+    this.nodes = new LinkedHashMap<>();
+  }
+
+  /**
+   * Declare a task. Dependencies may be declared after this task, they are checked on {@link ResponseGraph#run()}.
+   *
+   * @param name         unique name of the task.
+   * @param function     to run once all dependencies are completed, gets the results of the dependencies.
+   * @param dependencies names of tasks to wait for.
+   * @param <TYPE>       type of the task result.
+   * @return this instance.
+   * @throws NullPointerException     if name, function or a dependency is null.
+   * @throws IllegalArgumentException if a task with name is already declared.
+   * @throws IllegalStateException    if graph was already started.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized <TYPE> @NotNull ResponseGraph task(@Nullable final String name,
+                                                         @Nullable final ThrowableFunction<Inputs, TYPE> function,
+                                                         @Nullable final String... dependencies) {
+    SpaceObjects.throwIfNull(name, "Given name is null.");
+    SpaceObjects.throwIfNull(function, "Given function is null.");
+    final String[] dependencyNames = dependencies == null ? new String[0] : dependencies.clone();
+    for (final String dependency : dependencyNames) {
+      SpaceObjects.throwIfNull(dependency, "Given dependency is null.");
+    }
+
+    if (this.started) {
+      throw new IllegalStateException("Graph already started.");
+    }
+    if (this.nodes.containsKey(name)) {
+      throw new IllegalArgumentException("Task " + name + " already declared.");
+    }
+    this.nodes.put(name, new Node<>(name, function, dependencyNames, new CompletableResponse<>(this.executorService)));
+    return this;
+  }
+
+  /**
+   * Get response of a task. The response can be used before the graph is started.
+   *
+   * @param name of the task.
+   * @param <TYPE> type of the task result.
+   * @return response of task, completed with the result of the task.
+   * @throws IllegalArgumentException if no task with name is declared.
+   */
+  @SuppressWarnings("unchecked")
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized <TYPE> @NotNull CompletableResponse<TYPE> response(@Nullable final String name) {
+    final Node<?> node = this.nodes.get(name);
+    if (node == null) {
+      throw new IllegalArgumentException("Task " + name + " not declared.");
+    }
+    return (CompletableResponse<TYPE>) node.completableResponse;
+  }
+
+  /**
+   * Start every task. Tasks without dependencies are started directly.
+   *
+   * @return response completed with the {@link Report} once every task is completed, or exceptionally with the first
+   * error of a task.
+   * @throws IllegalArgumentException if a dependency is not declared or the dependencies contain a cycle.
+   * @throws IllegalStateException    if graph was already started.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized @NotNull CompletableResponse<Report> run() {
+    if (this.started) {
+      throw new IllegalStateException("Graph already started.");
+    }
+    this.link();
+    this.checkCycles();
+    this.started = true;
+
+    final CompletableResponse<Report> reportResponse = new CompletableResponse<>(this.executorService);
+    final long startNanos = System.nanoTime();
+    final AtomicInteger remaining = new AtomicInteger(this.nodes.size());
+    final AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+    if (this.nodes.isEmpty()) {
+      return reportResponse.complete(this.report(startNanos));
+    }
+
+    for (final Node<?> node : this.nodes.values()) {
+      node.completableResponse.sniff((state, value, throwable) -> {
+        node.endNanos = System.nanoTime();
+        if (state == State.COMPLETED_EXCEPTIONALLY) {
+          firstError.compareAndSet(null, throwable);
+        }
+
+        for (final Node<?> dependent : node.dependents) {
+          if (state == State.COMPLETED_DEFAULT || state == State.COMPLETED_NULL) {
+            if (dependent.pending.decrementAndGet() == 0) {
+              dependent.launch(startNanos);
+            }
+          } else {
+            dependent.completableResponse.cancel(); //Dependents of dependent are canceled with its sniff.
+          }
+        }
+
+        if (remaining.decrementAndGet() == 0) { //Last task.
+          final Throwable error = firstError.get();
+          if (error != null) {
+            reportResponse.completeExceptionally(error);
+          } else {
+            reportResponse.complete(this.report(startNanos));
+          }
+        }
+      });
+    }
+
+    for (final Node<?> node : this.nodes.values()) {
+      if (node.dependencies.length == 0) {
+        node.launch(startNanos);
+      }
+    }
+    return reportResponse;
+  }
+
+  /**
+   * Resolve dependency names into nodes.
+   *
+   * @throws IllegalArgumentException if a dependency is not declared.
+   */
+  private void link() {
+    for (final Node<?> node : this.nodes.values()) {
+      node.dependencyNodes = new Node<?>[node.dependencies.length];
+      for (int i = 0; i < node.dependencies.length; i++) {
+        final Node<?> dependency = this.nodes.get(node.dependencies[i]);
+        if (dependency == null) {
+          throw new IllegalArgumentException("Task " + node.name + " depends on undeclared task " + node.dependencies[i] + ".");
+        }
+        node.dependencyNodes[i] = dependency;
+      }
+    }
+    for (final Node<?> node : this.nodes.values()) {
+      for (final Node<?> dependency : node.dependencyNodes) {
+        dependency.dependents.add(node);
+      }
+      node.pending.set(node.dependencyNodes.length);
+    }
+  }
+
+  /**
+   * Check graph for cycles with a depth first search.
+   *
+   * @throws IllegalArgumentException if a cycle was found, message contains the cycle.
+   */
+  private void checkCycles() {
+    final Map<Node<?>, Boolean> visited = new HashMap<>(); //False while on stack, true once finished.
+    for (final Node<?> node : this.nodes.values()) {
+      this.checkCycles(node, visited, new ArrayList<>());
+    }
+  }
+
+  /**
+   * Visit node and its dependencies.
+   *
+   * @param node    to visit.
+   * @param visited state of visited nodes.
+   * @param path    current path, used for the error message.
+   */
+  private void checkCycles(@NotNull final Node<?> node,
+                           @NotNull final Map<Node<?>, Boolean> visited,
+                           @NotNull final List<String> path) {
+    final Boolean finished = visited.get(node);
+    if (finished != null) {
+      if (!finished) { //Node is on current path.
+        final List<String> cycle = new ArrayList<>(path.subList(path.indexOf(node.name), path.size()));
+        cycle.add(node.name);
+        throw new IllegalArgumentException("Cycle detected: " + String.join(" -> ", cycle) + ".");
+      }
+      return;
+    }
+
+    visited.put(node, false);
+    path.add(node.name);
+    for (final Node<?> dependency : node.dependencyNodes) {
+      this.checkCycles(dependency, visited, path);
+    }
+    path.remove(path.size() - 1);
+    visited.put(node, true);
+  }
+
+  /**
+   * Create report of a completed run.
+   *
+   * @param startNanos {@link System#nanoTime()} of the run start.
+   * @return created report.
+   */
+  private @NotNull Report report(final long startNanos) {
+    final Map<String, Timing> timings = new LinkedHashMap<>();
+    Node<?> last = null;
+    for (final Node<?> node : this.nodes.values()) {
+      timings.put(node.name, node.timing(startNanos));
+      if (last == null || node.endNanos - last.endNanos > 0) {
+        last = node;
+      }
+    }
+
+    //Walk back from the last finished task, always over the dependency that finished last.
+    final List<Timing> criticalPath = new ArrayList<>();
+    while (last != null) {
+      criticalPath.add(0, timings.get(last.name));
+      Node<?> previous = null;
+      for (final Node<?> dependency : last.dependencyNodes) {
+        if (previous == null || dependency.endNanos - previous.endNanos > 0) {
+          previous = dependency;
+        }
+      }
+      last = previous;
+    }
+
+    final long totalNanos = criticalPath.isEmpty() ? 0 : criticalPath.get(criticalPath.size() - 1).endNanos();
+    return new Report(totalNanos, Collections.unmodifiableList(criticalPath), Collections.unmodifiableMap(timings));
+  }
+
+  /**
+   * Results of the dependencies of a task.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static final class Inputs {
+    private final @NotNull Map<String, Object> values;
+
+    private Inputs(@NotNull final Map<String, Object> values) {
+      this.values = values;
+    }
+
+    /**
+     * Get result of a dependency.
+     *
+     * @param name   of the dependency.
+     * @param <TYPE> type of the result.
+     * @return result of the dependency, could be null.
+     * @throws IllegalArgumentException if name is not a dependency of the task.
+     */
+    @SuppressWarnings("unchecked")
+    @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+    public <TYPE> @Nullable TYPE get(@Nullable final String name) {
+      if (!this.values.containsKey(name)) {
+        throw new IllegalArgumentException(name + " is not a dependency.");
+      }
+      return (TYPE) this.values.get(name);
+    }
+  }
+
+  /**
+   * Timing of a task, relative to the start of the run.
+   *
+   * @param name       of the task.
+   * @param startNanos nanoseconds between run start and task start, -1 if the task never started.
+   * @param endNanos   nanoseconds between run start and task completion.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public record Timing(@NotNull String name,
+                       long startNanos,
+                       long endNanos) {
+    /**
+     * Get time the task was running.
+     *
+     * @return duration in nanoseconds, 0 if the task never started.
+     */
+    @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+    public long durationNanos() {
+      return this.startNanos < 0 ? 0 : this.endNanos - this.startNanos;
+    }
+  }
+
+  /**
+   * Report of a completed run.
+   *
+   * @param totalNanos   duration of the whole run in nanoseconds.
+   * @param criticalPath chain of tasks that determined the duration of the run, in order of execution. Shortening one
+   *                     of these tasks shortens the run.
+   * @param timings      timing of every task, by name.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public record Report(long totalNanos,
+                       @NotNull List<Timing> criticalPath,
+                       @NotNull Map<String, Timing> timings) {
+  }
+
+  /**
+   * Declared task with its run state.
+   *
+   * @param <TYPE> type of the task result.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class Node<TYPE> {
+    private final @NotNull String name;
+    private final @NotNull ThrowableFunction<Inputs, TYPE> function;
+    private final @NotNull String[] dependencies;
+    private final @NotNull CompletableResponse<TYPE> completableResponse;
+    private final @NotNull List<Node<?>> dependents;
+    /**
+     * Number of dependencies not completed yet.
+     */
+    private final @NotNull AtomicInteger pending;
+    private @NotNull Node<?>[] dependencyNodes;
+    /**
+     * Nanoseconds between run start and task start, -1 if not started.
+     */
+    private volatile long startNanos = -1;
+    /**
+     * {@link System#nanoTime()} of completion.
+     */
+    private volatile long endNanos;
+
+    private Node(@NotNull final String name,
+                 @NotNull final ThrowableFunction<Inputs, TYPE> function,
+                 @NotNull final String[] dependencies,
+                 @NotNull final CompletableResponse<TYPE> completableResponse) {
+      this.name = name;
+      this.function = function;
+      this.dependencies = dependencies;
+      this.completableResponse = completableResponse;
+      this.dependents = new ArrayList<>();
+      this.pending = new AtomicInteger();
+      this.dependencyNodes = new Node<?>[0];
+    }
+
+    /**
+     * Run function with results of all dependencies.
+     *
+     * @param runStartNanos {@link System#nanoTime()} of the run start.
+     */
+    private void launch(final long runStartNanos) {
+      if (this.completableResponse.done()) {
+        return; //Canceled, another dependency failed.
+      }
+      this.completableResponse.completeAsync(() -> {
+        this.startNanos = System.nanoTime() - runStartNanos;
+        final Map<String, Object> values = new HashMap<>();
+        for (final Node<?> dependency : this.dependencyNodes) {
+          values.put(dependency.name, dependency.completableResponse.getNow(null));
+        }
+        return this.function.apply(new Inputs(values));
+      });
+    }
+
+    /**
+     * Create timing of this node.
+     *
+     * @param runStartNanos {@link System#nanoTime()} of the run start.
+     * @return created timing.
+     */
+    private @NotNull Timing timing(final long runStartNanos) {
+      return new Timing(this.name, this.startNanos, this.endNanos - runStartNanos);
+    }
+  }
+}
@@ -0,0 +1,269 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.function.ThrowableConsumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the hooks of a {@link ResponseService} (create, complete and exception consumers) on one dedicated thread, so
+ * slow hooks do not add latency to creating or completing responses.
+ * <br>
+ * Hooks are queued in a bounded lock free ring and run in batches. If the ring is full, the {@link OverflowPolicy}
+ * decides whether the hook is dropped or the caller waits for space.
+ * <br>
+ * Example:
+ * <pre><code>
+ * final ResponseService service = ResponseService.builder()
+ *   .completeConsumer(response -&gt; audit.log(response))
+ *   .hookDispatcher(new ResponseHookDispatcher(4096, ResponseHookDispatcher.OverflowPolicy.DROP))
+ *   .build();
+ * </code></pre>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class ResponseHookDispatcher implements AutoCloseable {
+  /**
+   * Maximal number of hooks run before the ring is checked for new ones.
+   */
+  private final static int BATCH_SIZE = 256;
+  /**
+   * Time a blocked producer waits before checking the ring again.
+   */
+  private final static long BLOCK_PARK_NANOS = 10_000L;
+  /**
+   * Value of {@link ResponseHookDispatcher#tail} once the dispatcher thread stopped, no position can be claimed anymore.
+   */
+  private final static long SEALED = -1L;
+
+  private final int mask;
+  /**
+   * Sequence of every slot: equal to the producer position if free, position + 1 if filled.
+   */
+  private final @NotNull AtomicLongArray sequences;
+  private final @NotNull ThrowableConsumer<Object>[] consumers;
+  private final @NotNull Object[] values;
+  /**
+   * Next position to claim by producers, {@link ResponseHookDispatcher#SEALED} once the dispatcher thread stopped.
+   */
+  private final @NotNull AtomicLong tail;
+  private final @NotNull OverflowPolicy overflowPolicy;
+  private final @NotNull LongAdder dropped;
+  private final @NotNull Thread thread;
+  /**
+   * Next position to read, only used by {@link ResponseHookDispatcher#thread}.
+   */
+  private long head;
+  /**
+   * True while the dispatcher thread is parked or about to park.
+   */
+  private volatile boolean waiting;
+  private volatile boolean closed;
+
+  /**
+   * Create dispatcher and start its thread.
+   *
+   * @param capacity       number of hooks the ring can hold, rounded up to a power of two (at least 2).
+   * @param overflowPolicy what to do if the ring is full, {@link OverflowPolicy#DROP} if null.
+   * @throws IllegalArgumentException if capacity is not positive or too large.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @SuppressWarnings("unchecked")
+  public ResponseHookDispatcher(final int capacity,
+                                @Nullable final OverflowPolicy overflowPolicy) {
+    if (capacity <= 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+    }
+    final int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1; //Next power of two, filled and free sequences differ from 2 on.
+    this.mask = size - 1;
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      this.sequences.set(i, i);
+    }
+    this.consumers = (ThrowableConsumer<Object>[]) new ThrowableConsumer<?>[size];
+    this.values = new Object[size];
+    this.tail = new AtomicLong();
+    this.overflowPolicy = overflowPolicy == null ? OverflowPolicy.DROP : overflowPolicy;
+    this.dropped = new LongAdder();
+
+    this.thread = new Thread(this::drain, "response-hooks");
+    this.thread.setDaemon(true); //Do not keep the application alive.
+    this.thread.start();
+  }
+
+  /**
+   * Get number of hooks dropped because the ring was full or the dispatcher was closed.
+   *
+   * @return number of dropped hooks.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public long dropped() {
+    return this.dropped.sum();
+  }
+
+  /**
+   * Stop the dispatcher thread once every queued hook ran. Hooks dispatched afterwards are dropped and counted, every
+   * hook is either run or counted in {@link ResponseHookDispatcher#dropped()}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public void close() {
+    this.closed = true;
+    LockSupport.unpark(this.thread);
+  }
+
+  /**
+   * Queue hook to run on the dispatcher thread.
+   *
+   * @param consumer hook to run.
+   * @param value    to give to hook.
+   * @param <TYPE>   type of value.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  @SuppressWarnings("unchecked")
+  <TYPE> void dispatch(@NotNull final ThrowableConsumer<TYPE> consumer,
+                       @Nullable final TYPE value) {
+    if (this.closed) {
+      this.dropped.increment();
+      return;
+    }
+    if (Thread.currentThread() == this.thread) {
+      run((ThrowableConsumer<Object>) consumer, value); //Hook of a hook, waiting for space would never end.
+      return;
+    }
+
+    while (!this.offer((ThrowableConsumer<Object>) consumer, value)) {
+      if (this.overflowPolicy == OverflowPolicy.DROP || this.closed) {
+        this.dropped.increment();
+        return;
+      }
+      LockSupport.parkNanos(BLOCK_PARK_NANOS); //Wait for the dispatcher thread to free slots.
+    }
+  }
+
+  /**
+   * Claim a slot and publish the hook.
+   *
+   * @param consumer hook to run.
+   * @param value    to give to hook.
+   * @return false, if ring is full or sealed.
+   */
+  private boolean offer(@NotNull final ThrowableConsumer<Object> consumer,
+                        @Nullable final Object value) {
+    while (true) {
+      final long position = this.tail.get();
+      if (position == SEALED) {
+        return false; //Dispatcher thread stopped, caller drops hook.
+      }
+      final int index = (int) position & this.mask;
+      final long difference = this.sequences.get(index) - position;
+      if (difference < 0) {
+        return false; //Slot still holds a hook of the previous round.
+      }
+      if (difference == 0 && this.tail.compareAndSet(position, position + 1)) {
+        this.consumers[index] = consumer;
+        this.values[index] = value;
+        this.sequences.set(index, position + 1); //Publish to dispatcher thread.
+        if (this.waiting) {
+          LockSupport.unpark(this.thread);
+        }
+        return true;
+      }
+      //Position was claimed by another producer, retry.
+    }
+  }
+
+  /**
+   * Loop of the dispatcher thread. Runs hooks in batches and parks while the ring is empty.
+   */
+  private void drain() {
+    while (true) {
+      int ran = 0;
+      while (ran < BATCH_SIZE && this.runNext()) {
+        ran++;
+      }
+      if (ran > 0) {
+        continue;
+      }
+
+      this.waiting = true;
+      if (this.filled()) { //Check again, a producer could have missed the flag.
+        this.waiting = false;
+        continue;
+      }
+      if (this.closed) {
+        if (this.tail.compareAndSet(this.head, SEALED)) {
+          return; //Ring is empty and no producer can claim a position anymore.
+        }
+        this.waiting = false;
+        Thread.onSpinWait(); //A producer claimed a position, but did not publish it yet.
+        continue;
+      }
+      LockSupport.park(this);
+      this.waiting = false;
+    }
+  }
+
+  /**
+   * Check if the slot at head is filled.
+   *
+   * @return true, if a hook can be run.
+   */
+  private boolean filled() {
+    return this.sequences.get((int) this.head & this.mask) == this.head + 1;
+  }
+
+  /**
+   * Run the hook at head, if present.
+   *
+   * @return true, if a hook ran.
+   */
+  private boolean runNext() {
+    if (!this.filled()) {
+      return false;
+    }
+    final int index = (int) this.head & this.mask;
+    final ThrowableConsumer<Object> consumer = this.consumers[index];
+    final Object value = this.values[index];
+    this.consumers[index] = null;
+    this.values[index] = null;
+    this.sequences.set(index, this.head + this.mask + 1); //Free slot for the next round.
+    this.head++;
+    run(consumer, value);
+    return true;
+  }
+
+  /**
+   * Run hook and print errors, the dispatcher thread must survive.
+   *
+   * @param consumer hook to run.
+   * @param value    to give to hook.
+   */
+  private static void run(@NotNull final ThrowableConsumer<Object> consumer,
+                          @Nullable final Object value) {
+    try {
+      consumer.accept(value);
+    } catch (final Throwable throwable) {
+      throwable.printStackTrace(); //Print errors of hook.
+    }
+  }
+
+  /**
+   * Behaviour of {@link ResponseHookDispatcher} if the ring is full.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public enum OverflowPolicy {
+    /**
+     * Drop the hook and count it, see {@link ResponseHookDispatcher#dropped()}. The caller never waits.
+     */
+    DROP,
+    /**
+     * Wait until the dispatcher thread freed a slot. No hook is lost, but the caller can be delayed.
+     */
+    BLOCK
+  }
+}
@@ -0,0 +1,186 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.SpaceObjects;
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.exception.ResponseLeakException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Finds {@link CompletableResponse} instances that are garbage collected without ever being completed. Every stage
+ * and waiter of such a response is lost.
+ * <br>
+ * The detector is disabled by default. Once enabled, the creation site of a sampled fraction of responses is recorded
+ * and reported as {@link ResponseLeakException} if the response is collected while {@link State#UNCOMPLETED}.
+ * <br>
+ * Example:
+ * <pre><code>
+ * ResponseLeakDetector.enable(0.01D); //Track every 100th response.
+ * ResponseLeakDetector.reporter(leak -&gt; logger.warn("Response never completed.", leak));
+ * </code></pre>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class ResponseLeakDetector {
+  /**
+   * Bitmask of every completed {@link State}.
+   */
+  private final static int DONE_MASK = State.CANCELLED.mask() | State.COMPLETED_DEFAULT.mask() | State.COMPLETED_NULL.mask() | State.COMPLETED_EXCEPTIONALLY.mask();
+  /**
+   * Number of reported leaks.
+   */
+  private final static @NotNull AtomicLong LEAKS = new AtomicLong();
+
+  /**
+   * Fraction of responses to track, 0 if disabled.
+   */
+  private static volatile double sampleRate;
+  /**
+   * Consumer of reported leaks.
+   */
+  private static volatile @NotNull Consumer<ResponseLeakException> reporter = Throwable::printStackTrace;
+
+  /**
+   * Block default constructor.
+   */
+  private ResponseLeakDetector() {
+    //Nothing to see here.
+  }
+
+  /**
+   * Enable detection for a fraction of all created responses.
+   *
+   * @param sampleRate fraction of responses to track, 1 to track every response.
+   * @throws IllegalArgumentException if sampleRate is not between 0 (exclusive) and 1 (inclusive).
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static void enable(final double sampleRate) {
+    if (!(sampleRate > 0D && sampleRate <= 1D)) { //Also catches NaN.
+      throw new IllegalArgumentException("Sample rate must be greater than 0 and at most 1.");
+    }
+    ResponseLeakDetector.sampleRate = sampleRate;
+  }
+
+  /**
+   * Disable detection for new responses. Already tracked responses are still reported.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static void disable() {
+    sampleRate = 0D;
+  }
+
+  /**
+   * Check if detection is enabled.
+   *
+   * @return true, if responses are sampled.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static boolean enabled() {
+    return sampleRate > 0D;
+  }
+
+  /**
+   * Set consumer of leaks, default prints the stack trace. Called on the cleaner thread.
+   *
+   * @param reporter to set.
+   * @throws NullPointerException if reporter is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static void reporter(@Nullable final Consumer<ResponseLeakException> reporter) {
+    ResponseLeakDetector.reporter = SpaceObjects.throwIfNull(reporter, "Given reporter is null.");
+  }
+
+  /**
+   * Get number of reported leaks.
+   *
+   * @return number of leaks.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public static long leaks() {
+    return LEAKS.get();
+  }
+
+  /**
+   * Track response if sampled. Called on creation of every {@link CompletableResponse}.
+   *
+   * @param completableResponse created response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  static void track(@NotNull final CompletableResponse<?> completableResponse) {
+    final double localSampleRate = sampleRate;
+    if (localSampleRate <= 0D || (localSampleRate < 1D && ThreadLocalRandom.current().nextDouble() >= localSampleRate)) {
+      return; //Disabled or not sampled.
+    }
+
+    final Leak leak = new Leak(new ResponseLeakException("Response was garbage collected without being completed, created at:"));
+    leak.cleanable = CleanerHolder.CLEANER.register(completableResponse, leak); //Leak must not reference the response.
+    completableResponse.registerStage(new TrackerStage(leak));
+  }
+
+  /**
+   * Holder of the cleaner, the thread is only started once the detector was used.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class CleanerHolder {
+    private final static @NotNull Cleaner CLEANER = Cleaner.create();
+  }
+
+  /**
+   * Cleaning action of a tracked response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class Leak implements Runnable {
+    /**
+     * Holds the stack trace of the creation.
+     */
+    private final @NotNull ResponseLeakException creationSite;
+    private volatile boolean completed;
+    private volatile @Nullable Cleaner.Cleanable cleanable;
+
+    private Leak(@NotNull final ResponseLeakException creationSite) {
+      this.creationSite = creationSite;
+    }
+
+    /**
+     * Called by the cleaner once the response is collected, or by {@link TrackerStage} on completion.
+     */
+    @Override
+    public void run() {
+      if (this.completed) {
+        return; //Completed normally.
+      }
+      LEAKS.incrementAndGet();
+      try {
+        reporter.accept(this.creationSite);
+      } catch (final Throwable throwable) {
+        throwable.printStackTrace(); //Cleaner thread must survive.
+      }
+    }
+  }
+
+  /**
+   * Stage registered on a tracked response, unregisters the leak once the response is completed.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class TrackerStage extends ResponseFunctionExecutor {
+    private final @NotNull Leak leak;
+
+    private TrackerStage(@NotNull final Leak leak) {
+      super(DONE_MASK, false);
+      this.leak = leak;
+    }
+
+    @Override
+    void execute(@Nullable final Object result) {
+      this.leak.completed = true;
+      final Cleaner.Cleanable cleanable = this.leak.cleanable;
+      if (cleanable != null) {
+        cleanable.clean(); //Remove from cleaner, action does nothing.
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate limiter for {@link ResponseService}, implemented as generic cell rate algorithm (GCRA). The whole state is one
+ * theoretical arrival time in an {@link AtomicLong}, permits are reserved with a compare and set loop without locks.
+ * <br>
+ * Calls above the rate are not rejected but delayed: {@link ResponseRateLimiter#reserve()} returns the time a call has
+ * to wait for its permit. Up to burst calls can be started at once after the limiter was idle.
+ * <br>
+ * Example:
+ * <pre><code>
+ * final ResponseService service = ResponseService.builder()
+ *   .rateLimiter(new ResponseRateLimiter(100, 10)) //100 calls per second, up to 10 at once.
+ *   .build();
+ * </code></pre>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class ResponseRateLimiter {
+  /**
+   * Time between two permits in nanoseconds.
+   */
+  private final long intervalNanos;
+  /**
+   * Time a call may start before its theoretical arrival time, allows bursts.
+   */
+  private final long toleranceNanos;
+  /**
+   * Theoretical arrival time of the next call, as {@link System#nanoTime()}.
+   */
+  private final AtomicLong theoreticalArrival;
+
+  /**
+   * Create instance.
+   *
+   * @param permitsPerSecond number of calls permitted per second.
+   * @param burst            number of calls permitted at once, at least 1.
+   * @throws IllegalArgumentException if permitsPerSecond or burst is not positive.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public ResponseRateLimiter(final double permitsPerSecond,
+                             final int burst) {
+    if (!(permitsPerSecond > 0)) { //Also catches NaN.
+      throw new IllegalArgumentException("PermitsPerSecond must be positive.");
+    }
+    if (burst <= 0) {
+      throw new IllegalArgumentException("Burst must be positive.");
+    }
+    this.intervalNanos = Math.max(1L, Math.round(1_000_000_000D / permitsPerSecond));
+    this.toleranceNanos = this.intervalNanos * (burst - 1);
+    this.theoreticalArrival = new AtomicLong(System.nanoTime());
+  }
+
+  /**
+   * Reserve a permit. The permit is taken in any case, the caller has to wait the returned time before using it.
+   *
+   * @return time to wait in nanoseconds, 0 if the call can start directly.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public long reserve() {
+    while (true) {
+      final long now = System.nanoTime();
+      final long current = this.theoreticalArrival.get();
+      final long arrival = current - now < 0 ? now : current; //Idle limiter does not collect permits beyond burst.
+      if (this.theoreticalArrival.compareAndSet(current, arrival + this.intervalNanos)) {
+        return Math.max(0L, arrival - this.toleranceNanos - now);
+      }
+      //Permit was taken by another thread, retry.
+    }
+  }
+
+  /**
+   * Take a permit, only if the call can start directly.
+   *
+   * @return true, if a permit was taken.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public boolean tryAcquire() {
+    while (true) {
+      final long now = System.nanoTime();
+      final long current = this.theoreticalArrival.get();
+      final long arrival = current - now < 0 ? now : current;
+      if (arrival - this.toleranceNanos - now > 0) {
+        return false; //No permit without waiting.
+      }
+      if (this.theoreticalArrival.compareAndSet(current, arrival + this.intervalNanos)) {
+        return true;
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared timer for {@link CompletableResponse} operations that need a delay.
+ * <br>
+ * All delays run off one daemon thread. Scheduled tasks should only hand over work (complete a response or submit to
+ * an executor) and never block, otherwise every other scheduled task is delayed.
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+final class ResponseScheduler {
+  /**
+   * Executor with one thread, canceled tasks are removed from the queue directly.
+   */
+  private final static @NotNull ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+  /**
+   * Block default constructor.
+   */
+  private ResponseScheduler() {
+    //Nothing to see here.
+  }
+
+  /**
+   * Run runnable on the timer thread once the delay is over. The {@link ResponseContext} of the calling thread is
+   * restored around the runnable.
+   *
+   * @param runnable   to run on timer thread.
+   * @param delayNanos delay in nanoseconds, negative values are treated as zero.
+   * @return future to cancel the scheduled runnable.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  static @NotNull ScheduledFuture<?> schedule(@NotNull final Runnable runnable,
+                                              final long delayNanos) {
+    return SCHEDULER.schedule(ResponseContext.wrap(runnable), Math.max(0, delayNanos), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Create the scheduler instance.
+   *
+   * @return created scheduler with one daemon thread.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static @NotNull ScheduledThreadPoolExecutor createScheduler() {
+    final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final Thread thread = new Thread(runnable, "response-scheduler");
+      thread.setDaemon(true); //Do not keep the application alive.
+      return thread;
+    });
+    scheduler.setRemoveOnCancelPolicy(true); //Canceled hedges or timeouts should not stay in the queue.
+    return scheduler;
+  }
+}
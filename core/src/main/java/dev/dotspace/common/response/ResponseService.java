@@ -1,13 +1,20 @@
 package dev.dotspace.common.response;
 
+import dev.dotspace.common.SpaceObjects;
+import dev.dotspace.common.SpaceTime;
 import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.exception.CircuitBreakerOpenException;
 import dev.dotspace.common.function.ThrowableConsumer;
+import dev.dotspace.common.function.ThrowableSupplier;
 import dev.dotspace.common.service.Service;
 import lombok.Builder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
 
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Optional class to use and build unified response instances. Can be ideally used for unified error handling.
@@ -31,6 +38,27 @@ public final class ResponseService implements Service {
    * Consumer to hand errors from any {@link Response} created by this class.
    */
   private final @Nullable ThrowableConsumer<Throwable> exceptionConsumer;
+  /**
+   * Latencies of suppliers completed with {@link ResponseService#completeAsync(ThrowableSupplier)}.
+   */
+  private final @NotNull LatencyTracker latencyTracker;
+  /**
+   * Breaker to protect the executor of {@link ResponseService#completeAsync(ThrowableSupplier)} calls.
+   */
+  private final @Nullable ResponseCircuitBreaker circuitBreaker;
+  /**
+   * Priority of {@link ResponseService#completeAsync(ThrowableSupplier)} calls, used if executor is a
+   * {@link PriorityExecutor}.
+   */
+  private final @Nullable Priority priority;
+  /**
+   * Dispatcher to run create, complete and exception consumers with, null to run them on the calling thread.
+   */
+  private final @Nullable ResponseHookDispatcher hookDispatcher;
+  /**
+   * Limiter to delay {@link ResponseService#completeAsync(ThrowableSupplier)} calls above its rate.
+   */
+  private final @Nullable ResponseRateLimiter rateLimiter;
 
   /**
    * @param processType
@@ -38,20 +66,224 @@ public final class ResponseService implements Service {
    * @param createConsumer
    * @param completeConsumer
    * @param exceptionConsumer
+   * @param latencyTracker    to record latencies to, a new tracker is created if null.
+   * @param circuitBreaker    to reject asynchronous completions while open, null to disable.
+   * @param priority          of asynchronous completions, null for the default of the executor.
+   * @param hookDispatcher    to run consumers off the calling thread, null to run them directly.
+   * @param rateLimiter       to delay asynchronous completions above its rate, null to disable.
    */
-  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.8")
+  @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.8", updated = "1.0.9")
   private ResponseService(@Nullable final ExecutorService executorService,
                           @Nullable final ThrowableConsumer<Response<?>> createConsumer,
                           @Nullable final ThrowableConsumer<Response<?>> completeConsumer,
-                          @Nullable final ThrowableConsumer<Throwable> exceptionConsumer) {
+                          @Nullable final ThrowableConsumer<Throwable> exceptionConsumer,
+                          @Nullable final LatencyTracker latencyTracker,
+                          @Nullable final ResponseCircuitBreaker circuitBreaker,
+                          @Nullable final Priority priority,
+                          @Nullable final ResponseHookDispatcher hookDispatcher,
+                          @Nullable final ResponseRateLimiter rateLimiter) {
     this.executorService = executorService;
     this.createConsumer = createConsumer;
     this.completeConsumer = completeConsumer;
     this.exceptionConsumer = exceptionConsumer;
+    this.latencyTracker = latencyTracker == null ? new LatencyTracker() : latencyTracker;
+    this.circuitBreaker = circuitBreaker;
+    this.priority = priority;
+    this.hookDispatcher = hookDispatcher;
+    this.rateLimiter = rateLimiter;
   }
 
   @LibraryInformation(state = LibraryInformation.State.STABLE, since = "1.0.8")
   public <TYPE> @NotNull Response<TYPE> newInstance() {
+    return this.newCompletableResponse();
+  }
+
+  /**
+   * Create new instance and complete it asynchronous. The time the supplier takes is recorded in
+   * {@link ResponseService#latencyTracker()}.
+   * <br>
+   * If a {@link ResponseCircuitBreaker} is present and open, the response is completed with a
+   * {@link CircuitBreakerOpenException} directly, without using the executor. If the response is completed before the
+   * supplier ran (canceled or rejected by the executor), the permit is given back to the breaker.
+   * <br>
+   * If a {@link ResponseRateLimiter} is present, calls above its rate are submitted to the executor once their permit is
+   * available. No thread waits for the permit, the returned response is just completed later.
+   *
+   * @param typeSupplier to complete response with.
+   * @param <TYPE>       type of response.
+   * @return created response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public <TYPE> @NotNull Response<TYPE> completeAsync(@Nullable final ThrowableSupplier<TYPE> typeSupplier) {
+    return this.completeAsync(typeSupplier, this.priority);
+  }
+
+  /**
+   * Create new instance and complete it asynchronous with priority. Same as
+   * {@link ResponseService#completeAsync(ThrowableSupplier)}, but the priority of this service is overridden.
+   *
+   * @param typeSupplier to complete response with.
+   * @param priority     of the completion, only used if executor is a {@link PriorityExecutor}.
+   * @param <TYPE>       type of response.
+   * @return created response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public <TYPE> @NotNull Response<TYPE> completeAsync(@Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                                                      @Nullable final Priority priority) {
+    final ResponseCircuitBreaker localCircuitBreaker = this.circuitBreaker;
+    if (localCircuitBreaker != null && !localCircuitBreaker.tryAcquire()) { //Shed load, no executor submission.
+      return this.<TYPE>newCompletableResponse().completeExceptionally(new CircuitBreakerOpenException("Circuit breaker is open."));
+    }
+    final CompletableResponse<TYPE> response = this.newCompletableResponse();
+    final ThrowableSupplier<TYPE> supplier = localCircuitBreaker == null ?
+      this.timed(typeSupplier, null) : this.permitted(response, typeSupplier, localCircuitBreaker);
+    final ResponseRateLimiter localRateLimiter = this.rateLimiter;
+    return response.completeAsyncDelayed(supplier, priority,
+      localRateLimiter != null ? localRateLimiter.reserve() : 0L /*Delay until permit is available.*/);
+  }
+
+  /**
+   * Create new instance and complete it with hedged attempts. If a {@link ResponseCircuitBreaker} is present, every
+   * attempt needs a permit, attempts rejected by the breaker fail with {@link CircuitBreakerOpenException}.
+   *
+   * @param typeSupplier to run for every attempt.
+   * @param hedgeDelay   time to wait for an attempt before starting the next one.
+   * @param maxAttempts  maximal number of attempts. (Including the first one)
+   * @param <TYPE>       type of response.
+   * @return created response.
+   * @see CompletableResponse#hedged(ThrowableSupplier, Duration, int)
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public <TYPE> @NotNull Response<TYPE> hedged(@Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                                               @Nullable final Duration hedgeDelay,
+                                               final int maxAttempts) {
+    final long hedgeDelayNanos = SpaceObjects.throwIfNull(hedgeDelay, "Given hedgeDelay is null.").toNanos();
+    return CompletableResponse.hedgedImplementation(this.newCompletableResponse(),
+      this.guarded(typeSupplier), () -> hedgeDelayNanos, maxAttempts);
+  }
+
+  /**
+   * Create new instance and complete it with hedged attempts. The hedge delay is the given percentile of the latencies
+   * recorded by this service. As long as no latency was recorded, no backup attempts are started. Attempts need a
+   * permit of the {@link ResponseCircuitBreaker}, if present.
+   *
+   * @param typeSupplier to run for every attempt.
+   * @param percentile   of recorded latencies to use as hedge delay. (e.g. 0.95 for p95)
+   * @param maxAttempts  maximal number of attempts. (Including the first one)
+   * @param <TYPE>       type of response.
+   * @return created response.
+   * @see CompletableResponse#hedged(ThrowableSupplier, Duration, int)
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public <TYPE> @NotNull Response<TYPE> hedged(@Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                                               @Range(from = 0, to = 1) final double percentile,
+                                               final int maxAttempts) {
+    return CompletableResponse.hedgedImplementation(this.newCompletableResponse(),
+      this.guarded(typeSupplier), () -> this.latencyTracker.cachedPercentile(percentile), maxAttempts);
+  }
+
+  /**
+   * Get latencies recorded by this service.
+   *
+   * @return tracker of this service.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull LatencyTracker latencyTracker() {
+    return this.latencyTracker;
+  }
+
+  /**
+   * Get executor of this service.
+   *
+   * @return executor, null if responses use the default executor.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  @Nullable ExecutorService executorService() {
+    return this.executorService;
+  }
+
+  /**
+   * Wrap supplier of a call permitted by circuitBreaker. If response is completed before the supplier ran, the permit
+   * is given back and the supplier is skipped.
+   *
+   * @param response       completed by supplier.
+   * @param typeSupplier   to wrap.
+   * @param circuitBreaker permit was taken from.
+   * @param <TYPE>         type of supplier.
+   * @return wrapped supplier.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private <TYPE> @NotNull ThrowableSupplier<TYPE> permitted(@NotNull final CompletableResponse<TYPE> response,
+                                                            @Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                                                            @NotNull final ResponseCircuitBreaker circuitBreaker) {
+    final AtomicBoolean claimed = new AtomicBoolean(); //Either supplier runs or permit is released.
+    response.run(() -> {
+      if (claimed.compareAndSet(false, true)) {
+        circuitBreaker.release(); //Completed without supplier.
+      }
+    });
+    final ThrowableSupplier<TYPE> timed = this.timed(typeSupplier, circuitBreaker);
+    return () -> claimed.compareAndSet(false, true) ? timed.get() : null /*Response is done, value is dropped.*/;
+  }
+
+  /**
+   * Wrap supplier to take a permit of the circuit breaker of this service for every call.
+   *
+   * @param typeSupplier to wrap.
+   * @param <TYPE>       type of supplier.
+   * @return wrapped supplier, throws {@link CircuitBreakerOpenException} on get if no permit is available.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private <TYPE> @NotNull ThrowableSupplier<TYPE> guarded(@Nullable final ThrowableSupplier<TYPE> typeSupplier) {
+    final ResponseCircuitBreaker localCircuitBreaker = this.circuitBreaker;
+    final ThrowableSupplier<TYPE> timed = this.timed(typeSupplier, localCircuitBreaker);
+    if (localCircuitBreaker == null) {
+      return timed;
+    }
+    return () -> {
+      if (!localCircuitBreaker.tryAcquire()) { //Permit is taken right before the call, it can not be lost.
+        throw new CircuitBreakerOpenException("Circuit breaker is open.");
+      }
+      return timed.get();
+    };
+  }
+
+  /**
+   * Wrap supplier to record its execution time.
+   *
+   * @param typeSupplier   to wrap.
+   * @param circuitBreaker to record outcome of call to, ignored if null.
+   * @param <TYPE>         type of supplier.
+   * @return wrapped supplier, throws {@link NullPointerException} on get if typeSupplier is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private <TYPE> @NotNull ThrowableSupplier<TYPE> timed(@Nullable final ThrowableSupplier<TYPE> typeSupplier,
+                                                        @Nullable final ResponseCircuitBreaker circuitBreaker) {
+    return () -> {
+      final SpaceTime.Timestamp timestamp = SpaceTime.timestampNow();
+      boolean failed = true;
+      try {
+        final TYPE type = SpaceObjects.throwIfNull(typeSupplier).get();
+        failed = false;
+        return type;
+      } finally {
+        final long pastTime = timestamp.pastTime();
+        this.latencyTracker.record(pastTime);
+        if (circuitBreaker != null) {
+          circuitBreaker.record(pastTime, failed);
+        }
+      }
+    };
+  }
+
+  /**
+   * Create response with executor and consumers of this service.
+   *
+   * @param <TYPE> type of response.
+   * @return created response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.STABLE, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private <TYPE> @NotNull CompletableResponse<TYPE> newCompletableResponse() {
     //Create new uncompleted response.
     final CompletableResponse<TYPE> response = new CompletableResponse<>(this.executorService);
 
@@ -59,6 +291,20 @@ public final class ResponseService implements Service {
     final ThrowableConsumer<Response<?>> localCreateConsumer = this.createConsumer;
     final ThrowableConsumer<Response<?>> localCompleteConsumer = this.completeConsumer;
     final ThrowableConsumer<Throwable> localExceptionConsumer = this.exceptionConsumer;
+    final ResponseHookDispatcher localHookDispatcher = this.hookDispatcher;
+
+    if (localHookDispatcher != null) { //Only queue consumers, they run on the dispatcher thread.
+      if (localCreateConsumer != null) {
+        localHookDispatcher.dispatch(localCreateConsumer, response);
+      }
+      if (localCompleteConsumer != null) {
+        response.run(() -> localHookDispatcher.dispatch(localCompleteConsumer, response));
+      }
+      if (localExceptionConsumer != null) {
+        response.ifExceptionally(throwable -> localHookDispatcher.dispatch(localExceptionConsumer, throwable));
+      }
+      return response;
+    }
 
     //Check if local create is present
     if (localCreateConsumer != null) {
@@ -0,0 +1,490 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.SpaceObjects;
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.function.ThrowableConsumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Watchdog for executors of responses. Samples the watched pools on its own daemon thread and publishes a
+ * {@link Warning} if
+ * <ul>
+ *   <li>a thread waits longer than the threshold for a response with {@link Response#get()} or
+ *   {@link Response#block()}. ({@link Kind#BLOCKED})</li>
+ *   <li>tasks of a watched pool wait longer than the threshold without a free worker, or every worker of a watched
+ *   pool is busy but waiting instead of running for longer than the threshold. ({@link Kind#STARVATION})</li>
+ * </ul>
+ * Every warning contains the stack traces of the blocked threads, which are usually the reason of starvation.
+ * <br>
+ * For a {@link ThreadPoolExecutor}, saturation and the states of its workers are sampled as well, see
+ * {@link ResponseWatchdog#poolSamples()}. Pools without a queue (like the default cached pool) never queue tasks, they
+ * starve once every busy worker waits.
+ * <br>
+ * Waiting threads are only tracked while a watchdog is running, sampling does not touch the executed tasks.
+ * <br>
+ * Example:
+ * <pre><code>
+ * final ResponseWatchdog watchdog = new ResponseWatchdog(Duration.ofSeconds(1), Duration.ofSeconds(5),
+ *   warning -&gt; logger.warn(warning.message()))
+ *   .watchDefault()
+ *   .start();
+ * </code></pre>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class ResponseWatchdog implements AutoCloseable {
+  /**
+   * Threads waiting for a response with the {@link System#nanoTime()} they started waiting at.
+   */
+  private final static @NotNull Map<Thread, Long> BLOCKED_THREADS = new ConcurrentHashMap<>();
+  /**
+   * Number of running watchdogs, waiting threads are only tracked if greater than 0.
+   */
+  private final static @NotNull AtomicInteger RUNNING = new AtomicInteger();
+
+  private final long intervalNanos;
+  /**
+   * Time a thread may wait or a task may be queued before a warning is published.
+   */
+  private final long thresholdNanos;
+  private final @NotNull ThrowableConsumer<Warning> warningConsumer;
+  private final @NotNull List<WatchedPool> watchedPools;
+  /**
+   * Start of every blocking already reported, to publish one warning per blocking.
+   */
+  private final @NotNull Map<Thread, Long> reportedBlocks;
+  /**
+   * Samples of every watched pool, taken by the last {@link ResponseWatchdog#sample()}.
+   */
+  private volatile @NotNull List<PoolSample> poolSamples;
+  private @Nullable ScheduledThreadPoolExecutor timer;
+
+  /**
+   * Create watchdog, has to be started with {@link ResponseWatchdog#start()}.
+   *
+   * @param interval        time between two samples.
+   * @param threshold       time a thread may wait or a task may be queued before a warning is published.
+   * @param warningConsumer consumer to hand over warnings, called on the watchdog thread.
+   * @throws NullPointerException     if interval, threshold or warningConsumer is null.
+   * @throws IllegalArgumentException if interval or threshold is not positive.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public ResponseWatchdog(@Nullable final Duration interval,
+                          @Nullable final Duration threshold,
+                          @Nullable final ThrowableConsumer<Warning> warningConsumer) {
+    this.intervalNanos = SpaceObjects.throwIfNull(interval, "Given interval is null.").toNanos();
+    this.thresholdNanos = SpaceObjects.throwIfNull(threshold, "Given threshold is null.").toNanos();
+    if (this.intervalNanos <= 0 || this.thresholdNanos <= 0) {
+      throw new IllegalArgumentException("Interval and threshold must be positive.");
+    }
+    this.warningConsumer = SpaceObjects.throwIfNull(warningConsumer, "Given warningConsumer is null.");
+    this.watchedPools = new CopyOnWriteArrayList<>();
+    this.reportedBlocks = new HashMap<>();
+    this.poolSamples = List.of();
+  }
+
+  /**
+   * Watch queue of executor. Starvation is detected for {@link ThreadPoolExecutor} and {@link ForkJoinPool}, other
+   * executors are ignored.
+   * <br>
+   * The thread factory of a {@link ThreadPoolExecutor} is wrapped to know its workers, until the watchdog is closed.
+   * Workers started before are not sampled, until they are replaced.
+   *
+   * @param executorService to watch.
+   * @return this watchdog.
+   * @throws NullPointerException if executorService is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull ResponseWatchdog watch(@Nullable final ExecutorService executorService) {
+    this.watchedPools.add(new WatchedPool(SpaceObjects.throwIfNull(executorService, "Given executorService is null.")));
+    return this;
+  }
+
+  /**
+   * Watch executor of service.
+   *
+   * @param responseService to watch executor of, the default executor is watched if service has none.
+   * @return this watchdog.
+   * @throws NullPointerException if responseService is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull ResponseWatchdog watch(@Nullable final ResponseService responseService) {
+    final ExecutorService executorService = SpaceObjects.throwIfNull(responseService, "Given responseService is null.").executorService();
+    return this.watch(executorService == null ? CompletableResponse.defaultService() : executorService);
+  }
+
+  /**
+   * Watch executor used by responses created without executor.
+   *
+   * @return this watchdog.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull ResponseWatchdog watchDefault() {
+    return this.watch(CompletableResponse.defaultService());
+  }
+
+  /**
+   * Start sampling, does nothing if already started.
+   *
+   * @return this watchdog.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized @NotNull ResponseWatchdog start() {
+    if (this.timer == null) {
+      this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+        final Thread thread = new Thread(runnable, "response-watchdog");
+        thread.setDaemon(true); //Do not keep the application alive.
+        return thread;
+      });
+      RUNNING.incrementAndGet();
+      this.timer.scheduleAtFixedRate(this::sample, this.intervalNanos, this.intervalNanos, TimeUnit.NANOSECONDS);
+    }
+    return this;
+  }
+
+  /**
+   * Stop sampling and stop watching every pool, the thread factories of watched pools are restored. Pools have to be
+   * watched again before the watchdog is started again.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  @Override
+  public synchronized void close() {
+    for (final WatchedPool watchedPool : this.watchedPools) {
+      watchedPool.restore();
+    }
+    this.watchedPools.clear();
+    if (this.timer != null) {
+      this.timer.shutdownNow();
+      this.timer = null;
+      if (RUNNING.decrementAndGet() == 0) {
+        BLOCKED_THREADS.clear(); //Threads still waiting remove nothing.
+      }
+    }
+  }
+
+  /**
+   * Get samples of every watched pool, taken by the last {@link ResponseWatchdog#sample()}.
+   *
+   * @return samples in order of watching, empty if no sample was taken yet.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull List<PoolSample> poolSamples() {
+    return this.poolSamples;
+  }
+
+  /**
+   * Take one sample and publish warnings. Called by the watchdog thread every interval, can also be called directly.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized void sample() {
+    final long now = System.nanoTime();
+
+    //Threads waiting too long for a response.
+    this.reportedBlocks.entrySet().removeIf(entry -> !entry.getValue().equals(BLOCKED_THREADS.get(entry.getKey())));
+    for (final Map.Entry<Thread, Long> entry : BLOCKED_THREADS.entrySet()) {
+      final long blockedNanos = now - entry.getValue();
+      if (blockedNanos >= this.thresholdNanos && this.reportedBlocks.put(entry.getKey(), entry.getValue()) == null) {
+        this.publish(new Warning(Kind.BLOCKED,
+          "Thread " + entry.getKey().getName() + " waits for a response since " + TimeUnit.NANOSECONDS.toMillis(blockedNanos) + "ms.",
+          blockedNanos, stackTraces(entry.getKey()), null));
+      }
+    }
+
+    //Pools without free or running worker.
+    final List<PoolSample> samples = new ArrayList<>(this.watchedPools.size());
+    for (final WatchedPool watchedPool : this.watchedPools) {
+      final PoolSample poolSample = watchedPool.sample();
+      samples.add(poolSample);
+      final long queuedNanos = watchedPool.queuedNanos(now);
+      final long stalledNanos = watchedPool.stalledNanos(poolSample, now);
+      if (queuedNanos < this.thresholdNanos && stalledNanos < this.thresholdNanos) {
+        watchedPool.reported = false;
+        continue;
+      }
+      if (!watchedPool.reported) {
+        watchedPool.reported = true;
+        final String message = queuedNanos >= this.thresholdNanos ?
+          "Tasks of " + watchedPool.executorService + " wait for a worker since " + TimeUnit.NANOSECONDS.toMillis(queuedNanos) + "ms." :
+          "Every busy worker of " + watchedPool.executorService + " waits since " + TimeUnit.NANOSECONDS.toMillis(stalledNanos) + "ms.";
+        this.publish(new Warning(Kind.STARVATION, message, Math.max(queuedNanos, stalledNanos), stackTraces(null), poolSample));
+      }
+    }
+    this.poolSamples = List.copyOf(samples);
+  }
+
+  /**
+   * Hand warning to consumer.
+   *
+   * @param warning to publish.
+   */
+  private void publish(@NotNull final Warning warning) {
+    try {
+      this.warningConsumer.accept(warning);
+    } catch (final Throwable throwable) {
+      throwable.printStackTrace(); //Print errors, watchdog keeps sampling.
+    }
+  }
+
+  /**
+   * Take stack traces of waiting threads.
+   *
+   * @param thread to take stack trace of, every waiting thread if null.
+   * @return stack traces of threads.
+   */
+  private static @NotNull Map<Thread, StackTraceElement[]> stackTraces(@Nullable final Thread thread) {
+    if (thread != null) {
+      return Map.of(thread, thread.getStackTrace());
+    }
+    final Map<Thread, StackTraceElement[]> stackTraces = new HashMap<>();
+    for (final Thread blockedThread : BLOCKED_THREADS.keySet()) {
+      stackTraces.put(blockedThread, blockedThread.getStackTrace());
+    }
+    return stackTraces;
+  }
+
+  /**
+   * Mark current thread as waiting for a response. Called before a thread blocks on an uncompleted response.
+   *
+   * @return true, if thread is tracked and {@link ResponseWatchdog#blockEnded()} has to be called.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  static boolean blockStarted() {
+    if (RUNNING.get() == 0) {
+      return false; //No watchdog, nothing to track.
+    }
+    BLOCKED_THREADS.put(Thread.currentThread(), System.nanoTime());
+    return true;
+  }
+
+  /**
+   * Remove mark of current thread.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  static void blockEnded() {
+    BLOCKED_THREADS.remove(Thread.currentThread());
+  }
+
+  /**
+   * Queue state of one watched executor.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class WatchedPool {
+    private final @NotNull ExecutorService executorService;
+    /**
+     * Workers created since the pool is watched, null if executor is no {@link ThreadPoolExecutor}.
+     */
+    private final @Nullable Set<Thread> workers;
+    /**
+     * Thread factory of the pool before it was wrapped, null if executor is no {@link ThreadPoolExecutor}.
+     */
+    private final @Nullable ThreadFactory threadFactory;
+    /**
+     * Factory set to the pool to track workers, null if executor is no {@link ThreadPoolExecutor}.
+     */
+    private final @Nullable ThreadFactory trackingFactory;
+    /**
+     * First task of the queue at the last sample, compared by identity.
+     */
+    private @Nullable Object head;
+    /**
+     * {@link System#nanoTime()} the current head or queue was first seen at, 0 if queue was empty.
+     */
+    private long queuedSince;
+    /**
+     * {@link System#nanoTime()} every busy worker was first seen waiting at, 0 if a worker was running.
+     */
+    private long stalledSince;
+    private boolean reported;
+
+    private WatchedPool(@NotNull final ExecutorService executorService) {
+      this.executorService = executorService;
+      if (executorService instanceof final ThreadPoolExecutor threadPoolExecutor) {
+        final Set<Thread> localWorkers = ConcurrentHashMap.newKeySet();
+        final ThreadFactory localThreadFactory = threadPoolExecutor.getThreadFactory();
+        this.trackingFactory = runnable -> { //Only way to know the workers of a pool, restored on close.
+          final Thread thread = localThreadFactory.newThread(runnable);
+          if (thread != null) {
+            localWorkers.add(thread);
+          }
+          return thread;
+        };
+        threadPoolExecutor.setThreadFactory(this.trackingFactory);
+        this.workers = localWorkers;
+        this.threadFactory = localThreadFactory;
+      } else {
+        this.workers = null;
+        this.threadFactory = null;
+        this.trackingFactory = null;
+      }
+    }
+
+    /**
+     * Set the thread factory of the pool back to the one it had before watching. Does nothing if the factory was
+     * changed by someone else meanwhile.
+     */
+    private void restore() {
+      if (this.executorService instanceof final ThreadPoolExecutor threadPoolExecutor &&
+        this.threadFactory != null &&
+        threadPoolExecutor.getThreadFactory() == this.trackingFactory) {
+        threadPoolExecutor.setThreadFactory(this.threadFactory);
+      }
+    }
+
+    /**
+     * Sample saturation and worker states of pool.
+     *
+     * @return sample, only contains counts of the queue for executors other than {@link ThreadPoolExecutor}.
+     */
+    private @NotNull PoolSample sample() {
+      final Map<Thread.State, Integer> workerStates = new EnumMap<>(Thread.State.class);
+      final Set<Thread> localWorkers = this.workers;
+      if (localWorkers != null) {
+        localWorkers.removeIf(thread -> !thread.isAlive()); //Drop workers the pool let go.
+        for (final Thread worker : localWorkers) {
+          workerStates.merge(worker.getState(), 1, Integer::sum);
+        }
+      }
+
+      if (this.executorService instanceof final ThreadPoolExecutor threadPoolExecutor) {
+        return new PoolSample(this.executorService, threadPoolExecutor.getPoolSize(), threadPoolExecutor.getActiveCount(),
+          threadPoolExecutor.getMaximumPoolSize(), threadPoolExecutor.getQueue().size(), localWorkers == null ? 0 : localWorkers.size(), workerStates);
+      }
+      if (this.executorService instanceof final ForkJoinPool forkJoinPool) {
+        return new PoolSample(this.executorService, forkJoinPool.getPoolSize(), forkJoinPool.getActiveThreadCount(),
+          forkJoinPool.getParallelism(), forkJoinPool.getQueuedSubmissionCount(), 0, workerStates);
+      }
+      return new PoolSample(this.executorService, 0, 0, 0, 0, 0, workerStates);
+    }
+
+    /**
+     * Get time every busy worker is waiting instead of running. Only known if every worker of the pool is tracked. Idle
+     * workers wait for tasks as well, a pool only stalls if every worker is busy or tasks are queued.
+     *
+     * @param poolSample current sample of pool.
+     * @param now        current {@link System#nanoTime()}.
+     * @return time in nanoseconds, 0 if a worker runs or workers are unknown.
+     */
+    private long stalledNanos(@NotNull final PoolSample poolSample,
+                              final long now) {
+      final boolean stalled = poolSample.activeCount() > 0 &&
+        (poolSample.activeCount() >= poolSample.poolSize() || poolSample.queued() > 0) /*No idle worker.*/ &&
+        poolSample.trackedWorkers() >= poolSample.poolSize() /*Every worker is known.*/ &&
+        poolSample.workerStates().getOrDefault(Thread.State.RUNNABLE, 0) == 0;
+      if (!stalled) {
+        this.stalledSince = 0;
+        return 0;
+      }
+      if (this.stalledSince == 0) {
+        this.stalledSince = now;
+      }
+      return now - this.stalledSince;
+    }
+
+    /**
+     * Get time tasks are waiting without being taken by a worker.
+     *
+     * @param now current {@link System#nanoTime()}.
+     * @return time in nanoseconds, 0 if no task waits.
+     */
+    private long queuedNanos(final long now) {
+      final Object currentHead;
+      if (this.executorService instanceof final ThreadPoolExecutor threadPoolExecutor) {
+        currentHead = threadPoolExecutor.getQueue().peek(); //Same head for two samples: no worker took a task.
+      } else if (this.executorService instanceof final ForkJoinPool forkJoinPool) {
+        //No access to queued tasks, pool starves if tasks are queued while no worker is running.
+        currentHead = forkJoinPool.hasQueuedSubmissions() && forkJoinPool.getRunningThreadCount() == 0 ? forkJoinPool : null;
+      } else {
+        currentHead = null;
+      }
+
+      if (currentHead == null) {
+        this.head = null;
+        this.queuedSince = 0;
+        return 0;
+      }
+      if (currentHead != this.head) {
+        this.head = currentHead;
+        this.queuedSince = now;
+      }
+      return now - this.queuedSince;
+    }
+  }
+
+  /**
+   * Saturation of a watched pool at the time of a sample.
+   *
+   * @param executorService sampled pool.
+   * @param poolSize        number of workers.
+   * @param activeCount     number of workers running a task.
+   * @param maximumPoolSize maximal number of workers (parallelism of a {@link ForkJoinPool}).
+   * @param queued          number of tasks waiting for a worker.
+   * @param trackedWorkers  number of workers with known state, workers started before watching are unknown.
+   * @param workerStates    number of tracked workers per {@link Thread.State}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public record PoolSample(@NotNull ExecutorService executorService,
+                           int poolSize,
+                           int activeCount,
+                           int maximumPoolSize,
+                           int queued,
+                           int trackedWorkers,
+                           @NotNull Map<Thread.State, Integer> workerStates) {
+    /**
+     * Check if every worker the pool may create is busy.
+     *
+     * @return true, if no further task can start without waiting.
+     */
+    public boolean saturated() {
+      return this.maximumPoolSize > 0 && this.activeCount >= this.maximumPoolSize;
+    }
+  }
+
+  /**
+   * Kind of {@link Warning}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public enum Kind {
+    /**
+     * A thread waits too long for a response.
+     */
+    BLOCKED,
+    /**
+     * Tasks of a pool wait too long for a worker.
+     */
+    STARVATION
+  }
+
+  /**
+   * Warning published by a {@link ResponseWatchdog}.
+   *
+   * @param kind          of warning.
+   * @param message       describing the warning.
+   * @param durationNanos time the thread is waiting or the task is queued in nanoseconds.
+   * @param stackTraces   of the blocked threads at the time of the sample.
+   * @param poolSample    of the starving pool, null for {@link Kind#BLOCKED}.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public record Warning(@NotNull Kind kind,
+                        @NotNull String message,
+                        long durationNanos,
+                        @NotNull Map<Thread, StackTraceElement[]> stackTraces,
+                        @Nullable PoolSample poolSample) {
+  }
+}
@@ -0,0 +1,449 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.SpaceObjects;
+import dev.dotspace.common.annotation.LibraryInformation;
+import dev.dotspace.common.function.ThrowableSupplier;
+import dev.dotspace.common.service.Service;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service that spreads responses over several executors (shards) instead of one shared queue. Responses created for a
+ * key always use the shard of the key, responses created without key use the shard of the creating thread.
+ * <br>
+ * Keys are hashed to slots, every shard owns some slots. {@link ShardedResponseService#rebalance()} moves a slot of a
+ * hot shard to the coldest one. The slot is resolved for every task, so existing responses follow the moved slot. A
+ * slot only changes its shard once none of its tasks is queued or running, tasks of one key keep their order.
+ * <br>
+ * Example:
+ * <pre><code>
+ * final ShardedResponseService service = new ShardedResponseService(Runtime.getRuntime().availableProcessors());
+ *
+ * service.&lt;Session&gt;completeAsync(userId, () -&gt; sessions.load(userId)) //Tasks of userId stay on one shard.
+ *   .ifPresent(session -&gt; ...);
+ * </code></pre>
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+public final class ShardedResponseService implements Service {
+  /**
+   * Number of slots every shard owns at start, moving a slot moves this fraction of the load.
+   */
+  private final static int SLOTS_PER_SHARD = 16;
+
+  private final @NotNull Shard[] shards;
+  /**
+   * Executor of every slot, routes tasks to the owning shard.
+   */
+  private final @NotNull SlotExecutor[] slots;
+  /**
+   * State of every slot: index of owning shard in the high 32 bits, number of queued or running tasks in the low 32
+   * bits. Both in one value, so a slot can only change its owner while it has no tasks.
+   */
+  private final @NotNull AtomicLongArray slotStates;
+  /**
+   * Index of the shard every slot is moved to, equal to the owner if the slot is not moving.
+   */
+  private final @NotNull AtomicIntegerArray slotTargets;
+  /**
+   * Tasks of every slot since the last rebalance.
+   */
+  private final @NotNull AtomicLongArray slotLoads;
+  /**
+   * True if shards were created by this service, only those are shut down.
+   */
+  private final boolean ownsExecutors;
+
+  /**
+   * Create service with single thread shards.
+   *
+   * @param shardCount number of shards.
+   * @throws IllegalArgumentException if shardCount is not positive.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public ShardedResponseService(final int shardCount) {
+    this(createExecutors(shardCount), true);
+  }
+
+  /**
+   * Create service with given shards. Single thread executors keep tasks of one key in order.
+   *
+   * @param executorServices executors to use as shards.
+   * @throws NullPointerException     if executorServices or one of them is null.
+   * @throws IllegalArgumentException if executorServices is empty.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public ShardedResponseService(@Nullable final List<ExecutorService> executorServices) {
+    this(SpaceObjects.throwIfNull(executorServices, "Given executorServices is null."), false);
+  }
+
+  private ShardedResponseService(@NotNull final List<ExecutorService> executorServices,
+                                 final boolean ownsExecutors) {
+    if (executorServices.isEmpty()) {
+      throw new IllegalArgumentException("At least one shard is required.");
+    }
+    this.shards = new Shard[executorServices.size()];
+    for (int i = 0; i < this.shards.length; i++) {
+      this.shards[i] = new Shard(SpaceObjects.throwIfNull(executorServices.get(i), "Given executorService is null."));
+    }
+
+    final int slotCount = this.shards.length * SLOTS_PER_SHARD;
+    this.slots = new SlotExecutor[slotCount];
+    this.slotStates = new AtomicLongArray(slotCount);
+    this.slotTargets = new AtomicIntegerArray(slotCount);
+    this.slotLoads = new AtomicLongArray(slotCount);
+    for (int i = 0; i < slotCount; i++) {
+      this.slots[i] = new SlotExecutor(i);
+      this.slotStates.set(i, (long) (i % this.shards.length) << 32);
+      this.slotTargets.set(i, i % this.shards.length);
+    }
+    this.ownsExecutors = ownsExecutors;
+  }
+
+  /**
+   * Create response that runs its asynchronous work on the shard of the current thread.
+   *
+   * @param <TYPE> type of response.
+   * @return created response.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public <TYPE> @NotNull Response<TYPE> newInstance() {
+    return new CompletableResponse<>(this.threadExecutor());
+  }
+
+  /**
+   * Create response that runs its asynchronous work on the shard of key.
+   *
+   * @param key    to select shard with.
+   * @param <TYPE> type of response.
+   * @return created response.
+   * @throws NullPointerException if key is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public <TYPE> @NotNull Response<TYPE> newInstance(@Nullable final Object key) {
+    return new CompletableResponse<>(this.executor(key));
+  }
+
+  /**
+   * Create response and complete it on the shard of key.
+   *
+   * @param key          to select shard with.
+   * @param typeSupplier to complete response with.
+   * @param <TYPE>       type of response.
+   * @return created response.
+   * @throws NullPointerException if key is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public <TYPE> @NotNull Response<TYPE> completeAsync(@Nullable final Object key,
+                                                      @Nullable final ThrowableSupplier<TYPE> typeSupplier) {
+    return new CompletableResponse<TYPE>(this.executor(key)).completeAsync(typeSupplier);
+  }
+
+  /**
+   * Get executor of key.
+   *
+   * @param key to select shard with.
+   * @return executor that runs tasks on the shard of key.
+   * @throws NullPointerException if key is null.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull ExecutorService executor(@Nullable final Object key) {
+    return this.slots[this.slotOf(SpaceObjects.throwIfNull(key, "Given key is null.").hashCode())];
+  }
+
+  /**
+   * Get statistics of every shard. Slots still moving count for the shard they are moved to.
+   *
+   * @return statistics ordered by shard index.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public @NotNull List<ShardStats> stats() {
+    final int[] ownedSlots = new int[this.shards.length];
+    for (int i = 0; i < this.slotTargets.length(); i++) {
+      ownedSlots[this.slotTargets.get(i)]++;
+    }
+
+    final List<ShardStats> stats = new ArrayList<>(this.shards.length);
+    for (int i = 0; i < this.shards.length; i++) {
+      final long completed = this.shards[i].completed.sum(); //Read before submitted, backlog is never negative.
+      stats.add(new ShardStats(i, this.shards[i].submitted.sum(), completed, ownedSlots[i]));
+    }
+    return stats;
+  }
+
+  /**
+   * Move load from the hottest to the coldest shard. The load is the number of tasks since the last rebalance, a
+   * shard is hot if its load is more than 1.5 times the average. The slot moved is the busiest one of the hot shard
+   * that carries at most half of the load difference, so a single hot key is not moved back and forth.
+   * <br>
+   * Should be called periodically, e.g. with a scheduled executor. If tasks of the slot are still queued or running on
+   * the hot shard, the slot keeps its owner until they are done, new tasks of the slot queue up behind them meanwhile.
+   *
+   * @return true, if a slot was moved or will be moved once its tasks are done.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public synchronized boolean rebalance() {
+    final long[] loads = new long[this.slotLoads.length()];
+    final long[] shardLoads = new long[this.shards.length];
+    long totalLoad = 0;
+    for (int i = 0; i < loads.length; i++) {
+      loads[i] = this.slotLoads.getAndSet(i, 0); //Start next period.
+      shardLoads[this.slotTargets.get(i)] += loads[i];
+      totalLoad += loads[i];
+    }
+
+    int hot = 0;
+    int cold = 0;
+    for (int i = 1; i < shardLoads.length; i++) {
+      if (shardLoads[i] > shardLoads[hot]) {
+        hot = i;
+      }
+      if (shardLoads[i] < shardLoads[cold]) {
+        cold = i;
+      }
+    }
+    if (shardLoads[hot] * 2 * this.shards.length <= totalLoad * 3) {
+      return false; //Balanced enough.
+    }
+
+    final long maxSlotLoad = (shardLoads[hot] - shardLoads[cold]) / 2;
+    int slot = -1;
+    for (int i = 0; i < loads.length; i++) {
+      if (this.slotTargets.get(i) == hot && loads[i] > 0 && loads[i] <= maxSlotLoad && (slot < 0 || loads[i] > loads[slot])) {
+        slot = i;
+      }
+    }
+    if (slot < 0) {
+      return false; //Load is one slot, moving it does not help.
+    }
+    this.slotTargets.set(slot, cold);
+    this.moveIfDrained(slot); //Slot without tasks is moved directly, otherwise by its last task.
+    return true;
+  }
+
+  /**
+   * Shut down shards created by this service. Executors given to the constructor are not touched.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public void shutdown() {
+    if (!this.ownsExecutors) {
+      return;
+    }
+    for (final Shard shard : this.shards) {
+      shard.executorService.shutdown();
+    }
+  }
+
+  /**
+   * Get executor of the current thread.
+   *
+   * @return executor of slot of thread.
+   */
+  private @NotNull SlotExecutor threadExecutor() {
+    return this.slots[this.slotOf(Long.hashCode(Thread.currentThread().getId()))];
+  }
+
+  /**
+   * Count task of slot and get the shard to run it on. The owner can not change until the task is released.
+   *
+   * @param slot of task.
+   * @return index of the owning shard.
+   */
+  private int acquire(final int slot) {
+    return ownerOf(this.slotStates.incrementAndGet(slot));
+  }
+
+  /**
+   * Remove task of slot, moves the slot if it was the last task and a move is pending.
+   *
+   * @param slot of task.
+   */
+  private void release(final int slot) {
+    if ((int) this.slotStates.decrementAndGet(slot) == 0) {
+      this.moveIfDrained(slot);
+    }
+  }
+
+  /**
+   * Change owner of slot to its target, only if the slot has no tasks. A task counted meanwhile releases the slot
+   * later and moves it then.
+   *
+   * @param slot to move.
+   */
+  private void moveIfDrained(final int slot) {
+    final long state = this.slotStates.get(slot);
+    final int target = this.slotTargets.get(slot);
+    if ((int) state == 0 && ownerOf(state) != target) {
+      this.slotStates.compareAndSet(slot, state, (long) target << 32);
+    }
+  }
+
+  /**
+   * Get owning shard of slot state.
+   *
+   * @param state of slot.
+   * @return index of shard.
+   */
+  private static int ownerOf(final long state) {
+    return (int) (state >>> 32);
+  }
+
+  /**
+   * Get slot of hash.
+   *
+   * @param hash to get slot of.
+   * @return index of slot.
+   */
+  private int slotOf(final int hash) {
+    final int spread = hash ^ (hash >>> 16); //Use high bits as well, like HashMap.
+    return Math.floorMod(spread, this.slots.length);
+  }
+
+  /**
+   * Create single thread executors.
+   *
+   * @param shardCount number of executors.
+   * @return created executors.
+   */
+  private static @NotNull List<ExecutorService> createExecutors(final int shardCount) {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("Shard count must be positive.");
+    }
+    final List<ExecutorService> executorServices = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      final String name = "response-shard-" + (i + 1);
+      executorServices.add(Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, name)));
+    }
+    return executorServices;
+  }
+
+  /**
+   * Executor of one shard, counts tasks.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private static final class Shard {
+    private final @NotNull ExecutorService executorService;
+    private final @NotNull LongAdder submitted;
+    private final @NotNull LongAdder completed;
+
+    private Shard(@NotNull final ExecutorService executorService) {
+      this.executorService = executorService;
+      this.submitted = new LongAdder();
+      this.completed = new LongAdder();
+    }
+
+    private void execute(@NotNull final Runnable command) {
+      this.submitted.increment();
+      try {
+        this.executorService.execute(() -> {
+          try {
+            command.run();
+          } finally {
+            this.completed.increment();
+          }
+        });
+      } catch (final RuntimeException exception) { //Rejected, never completes.
+        this.submitted.decrement();
+        throw exception;
+      }
+    }
+  }
+
+  /**
+   * {@link ExecutorService} of one slot, routes every task to the current owner of the slot. Lifecycle methods are
+   * those of the service, a slot can not be shut down.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  private final class SlotExecutor extends AbstractExecutorService {
+    private final int slot;
+
+    private SlotExecutor(final int slot) {
+      this.slot = slot;
+    }
+
+    @Override
+    public void execute(@NotNull final Runnable command) {
+      slotLoads.incrementAndGet(this.slot);
+      final int owner = acquire(this.slot);
+      try {
+        shards[owner].execute(() -> {
+          try {
+            command.run();
+          } finally {
+            release(this.slot);
+          }
+        });
+      } catch (final RuntimeException exception) { //Rejected, never runs.
+        release(this.slot);
+        throw exception;
+      }
+    }
+
+    /**
+     * Get current owner of slot.
+     *
+     * @return shard owning the slot.
+     */
+    private @NotNull Shard owner() {
+      return shards[ownerOf(slotStates.get(this.slot))];
+    }
+
+    @Override
+    public void shutdown() {
+      throw new UnsupportedOperationException("Slot can not be shut down.");
+    }
+
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+      throw new UnsupportedOperationException("Slot can not be shut down.");
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return this.owner().executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return this.owner().executorService.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout,
+                                    @NotNull final TimeUnit unit) throws InterruptedException {
+      return this.owner().executorService.awaitTermination(timeout, unit);
+    }
+  }
+
+  /**
+   * Statistics of one shard.
+   *
+   * @param shard     index of shard.
+   * @param submitted number of tasks submitted to shard.
+   * @param completed number of tasks run by shard.
+   * @param slots     number of slots owned by shard.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, since = "1.0.9")
+  public record ShardStats(int shard,
+                           long submitted,
+                           long completed,
+                           int slots) {
+    /**
+     * Get number of tasks waiting or running.
+     *
+     * @return submitted minus completed tasks.
+     */
+    public long backlog() {
+      return this.submitted - this.completed;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package dev.dotspace.common.response;
+
+import dev.dotspace.common.annotation.LibraryInformation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Execution time of the stages of one function class, used by the adaptive stages of {@link CompletableResponse}.
+ * <br>
+ * The time is an exponentially weighted moving average of the measured executions. Updates are not synchronized,
+ * concurrent executions may lose a sample, which only delays the average.
+ */
+@LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+final class StageCost {
+  /**
+   * Weight of a new sample as shift, 3 weights a sample with 1/8.
+   */
+  private final static int WEIGHT_SHIFT = 3;
+  /**
+   * Cost of every function class, computed once per class.
+   */
+  private final static @NotNull ClassValue<StageCost> COSTS = new ClassValue<>() {
+    @Override
+    protected StageCost computeValue(@NotNull final Class<?> type) {
+      return new StageCost();
+    }
+  };
+
+  /**
+   * Average execution time above which stages are executed with the executor, if the executor has no own threshold.
+   */
+  private final static long DEFAULT_THRESHOLD_NANOS = 50_000L;
+  /**
+   * Threshold of every executor with a threshold other than the default.
+   */
+  private final static @NotNull Map<ExecutorService, Long> THRESHOLDS = new ConcurrentHashMap<>();
+
+  /**
+   * Average execution time in nanoseconds, negative until the first execution was measured.
+   */
+  private volatile long averageNanos = -1;
+
+  private StageCost() {
+  }
+
+  /**
+   * Get cost of function class.
+   *
+   * @param function to get cost for.
+   * @return cost shared by all functions of the same class.
+   */
+  static @NotNull StageCost of(@NotNull final Object function) {
+    return COSTS.get(function.getClass());
+  }
+
+  /**
+   * Set average execution time above which stages are executed with executorService.
+   *
+   * @param executorService to set threshold for.
+   * @param thresholdNanos  threshold in nanoseconds, negative to use the default again.
+   */
+  static void threshold(@NotNull final ExecutorService executorService,
+                        final long thresholdNanos) {
+    if (thresholdNanos < 0) {
+      THRESHOLDS.remove(executorService);
+    } else {
+      THRESHOLDS.put(executorService, thresholdNanos);
+    }
+  }
+
+  /**
+   * Get average execution time above which stages are executed with executorService.
+   *
+   * @param executorService to get threshold of.
+   * @return threshold in nanoseconds.
+   */
+  static long threshold(@NotNull final ExecutorService executorService) {
+    if (THRESHOLDS.isEmpty()) {
+      return DEFAULT_THRESHOLD_NANOS; //No lookup if no executor has an own threshold.
+    }
+    return THRESHOLDS.getOrDefault(executorService, DEFAULT_THRESHOLD_NANOS);
+  }
+
+  /**
+   * Check if stages of this class are cheap enough to execute on the completing thread. Unmeasured classes are not
+   * cheap, their first execution must not block the completing thread.
+   *
+   * @param thresholdNanos average execution time of cheap stages, see {@link StageCost#threshold(ExecutorService)}.
+   * @return true, if average time is measured and below threshold.
+   */
+  boolean cheap(final long thresholdNanos) {
+    final long localAverageNanos = this.averageNanos;
+    return localAverageNanos >= 0 && localAverageNanos <= thresholdNanos;
+  }
+
+  /**
+   * Add measured execution time to average.
+   *
+   * @param nanos execution time in nanoseconds.
+   */
+  void record(final long nanos) {
+    final long localAverageNanos = this.averageNanos;
+    this.averageNanos = localAverageNanos < 0 ? nanos : localAverageNanos + ((nanos - localAverageNanos) >> WEIGHT_SHIFT);
+  }
+}
@@ -40,4 +40,14 @@ public enum State {
   public boolean done() {
     return this != UNCOMPLETED;
   }
+
+  /**
+   * Get bit of state, used to check states against a bitmask.
+   *
+   * @return bit of this state.
+   */
+  @LibraryInformation(state = LibraryInformation.State.EXPERIMENTAL, access = LibraryInformation.Access.INTERNAL, since = "1.0.9")
+  int mask() {
+    return 1 << this.ordinal();
+  }
 }
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Test class {@link SpaceCollections}.
@@ -69,4 +70,37 @@ public class SpaceCollectionsTest {
   public void testAsyncRandomNull() {
     SpaceCollections.randomAsync((Collection<Object>) null).ifPresent(Assertions::assertNull);
   }
+
+  /**
+   * Test {@link SpaceCollections#mapParallel(Collection, dev.dotspace.common.function.ThrowableFunction, int)}.
+   */
+  @Test
+  public void testMapParallel() throws Throwable {
+    final List<Integer> numbers = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      numbers.add(i);
+    }
+
+    final List<Integer> doubled = SpaceCollections.mapParallel(numbers, number -> number * 2, 4).block();
+    Assertions.assertNotNull(doubled);
+    Assertions.assertEquals(numbers.size(), doubled.size());
+    for (int i = 0; i < doubled.size(); i++) {
+      Assertions.assertEquals(Integer.valueOf(i * 2), doubled.get(i)); //Order is kept.
+    }
+
+    Assertions.assertEquals(Collections.emptyList(), SpaceCollections.mapParallel(null, number -> number, 4).block());
+    Assertions.assertThrows(IllegalStateException.class, () -> SpaceCollections.mapParallel(numbers, number -> {
+      throw new IllegalStateException();
+    }, 4).block());
+  }
+
+  /**
+   * Test {@link SpaceCollections#forEachAsync(Collection, dev.dotspace.common.function.ThrowableConsumer, int)}.
+   */
+  @Test
+  public void testForEachAsync() throws Throwable {
+    final LongAdder sum = new LongAdder();
+    SpaceCollections.forEachAsync(NUMBERS_LIST, number -> sum.add(number), 2).block();
+    Assertions.assertEquals(45, sum.sum());
+  }
 }
@@ -0,0 +1,24 @@
+package dev.dotspace.common.test.concurrent;
+
+import dev.dotspace.common.response.CompletableResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.vm.VM;
+
+/**
+ * Test memory footprint of {@link CompletableResponse}, measured with JOL.
+ */
+public class CompletableResponseFootprintTest {
+  /**
+   * Test: instance of {@link CompletableResponse} needs at most 24 bytes. (Compressed references: header, executor,
+   * result and functions)
+   */
+  @Test
+  public void testInstanceSize() {
+    Assumptions.assumeTrue(VM.current().sizeOfField("oop") == 4, "Size only verified with compressed references.");
+    Assertions.assertTrue(ClassLayout.parseClass(CompletableResponse.class).instanceSize() <= 24,
+      ClassLayout.parseClass(CompletableResponse.class).toPrintable());
+  }
+}
@@ -1,11 +1,24 @@
 package dev.dotspace.common.test.concurrent;
 
+import dev.dotspace.common.SpaceTime;
+import dev.dotspace.common.exception.MismatchException;
+import dev.dotspace.common.function.ThrowableBiFunction;
+import dev.dotspace.common.function.ThrowableFunction;
 import dev.dotspace.common.response.CompletableResponse;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Timer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 /**
@@ -39,5 +52,348 @@ public class CompletableResponseTest {
     response.completeAsync(() -> DEFAULT_STRING);
   }
 
+  /**
+   * Test: {@link CompletableResponse#quorumType(int, CompletableResponse[])}.
+   */
+  @Test
+  public void testQuorum() throws Throwable {
+    final CompletableResponse<String> slow = new CompletableResponse<>();
+    final CompletableResponse<CompletableResponse.Result<String>[]> quorum = CompletableResponse.quorumType(2,
+      new CompletableResponse<String>().complete(DEFAULT_STRING),
+      new CompletableResponse<String>().complete(DEFAULT_STRING),
+      slow);
+
+    Assertions.assertEquals(2, quorum.get(1, TimeUnit.SECONDS).length);
+    Assertions.assertTrue(slow.get(1, TimeUnit.SECONDS) == null && slow.canceled()); //Remaining response is canceled.
+
+    final CompletableResponse<CompletableResponse.Result<String>[]> failed = CompletableResponse.quorumType(2,
+      new CompletableResponse<String>().complete(DEFAULT_STRING),
+      new CompletableResponse<String>().complete(null),
+      new CompletableResponse<String>().completeExceptionally(new NullPointerException()));
+    Assertions.assertThrows(MismatchException.class, failed::block);
+  }
+
+  /**
+   * Test: {@link CompletableResponse#majorityEqualType(CompletableResponse.EqualFunction, CompletableResponse[])}.
+   */
+  @Test
+  public void testMajorityEqual() throws Throwable {
+    final CompletableResponse<String> majority = CompletableResponse.majorityEqualType(null,
+      new CompletableResponse<String>().complete("Other"),
+      new CompletableResponse<String>().complete(DEFAULT_STRING),
+      new CompletableResponse<String>().complete(DEFAULT_STRING),
+      new CompletableResponse<String>().complete(DEFAULT_STRING),
+      new CompletableResponse<>());
+    Assertions.assertEquals(DEFAULT_STRING, majority.get(1, TimeUnit.SECONDS));
+
+    final CompletableResponse<String> mismatch = CompletableResponse.majorityEqualType(null,
+      new CompletableResponse<String>().complete("Other"),
+      new CompletableResponse<String>().complete(DEFAULT_STRING));
+    Assertions.assertThrows(MismatchException.class, mismatch::block);
+
+    final CompletableResponse<String> failed = CompletableResponse.majorityEqualType((first, second) -> {
+        throw new IllegalStateException("Test");
+      },
+      new CompletableResponse<String>().complete(DEFAULT_STRING),
+      new CompletableResponse<String>().complete(DEFAULT_STRING));
+    failed.get(1, TimeUnit.SECONDS);
+    Assertions.assertThrows(IllegalStateException.class, failed::block); //Completed, not only printed.
+  }
+
+  /**
+   * Test: {@link CompletableResponse#hedged(dev.dotspace.common.function.ThrowableSupplier, Duration, int)}.
+   */
+  @Test
+  public void testHedged() throws Throwable {
+    final AtomicInteger attempts = new AtomicInteger();
+    final CompletableResponse<String> hedged = CompletableResponse.hedged(() -> {
+      if (attempts.getAndIncrement() == 0) {
+        Thread.sleep(5000); //First attempt is slow.
+      }
+      return DEFAULT_STRING;
+    }, Duration.ofMillis(50), 3);
+
+    Assertions.assertEquals(DEFAULT_STRING, hedged.get(2, TimeUnit.SECONDS));
+    Assertions.assertEquals(2, attempts.get());
+
+    final CompletableResponse<String> failed = CompletableResponse.hedged(() -> {
+      throw new IllegalStateException();
+    }, Duration.ofSeconds(10), 3);
+    Assertions.assertThrows(IllegalStateException.class, failed::block);
+  }
+
+  /**
+   * Test: asynchronous stages are submitted in chunks on completion.
+   */
+  @Test
+  public void testAsyncDispatchBatched() throws InterruptedException {
+    final AtomicInteger submissions = new AtomicInteger();
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+      @Override
+      public void execute(@NotNull final Runnable command) {
+        submissions.incrementAndGet();
+        super.execute(command);
+      }
+    };
+
+    try {
+      final CompletableResponse<String> response = new CompletableResponse<>(executor);
+      final CountDownLatch latch = new CountDownLatch(50);
+      for (int i = 0; i < 50; i++) {
+        response.ifPresentAsync(s -> latch.countDown());
+      }
+      response.complete(DEFAULT_STRING);
+
+      Assertions.assertTrue(latch.await(1, TimeUnit.SECONDS));
+      Assertions.assertEquals(4, submissions.get()); //50 stages in chunks of 16.
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Test: {@link CompletableResponse#get()} inside a {@link ForkJoinPool} with one worker.
+   */
+  @Test
+  public void testBlockInForkJoinPool() throws InterruptedException {
+    final ForkJoinPool pool = new ForkJoinPool(1);
+
+    try {
+      final CompletableResponse<String> inner = new CompletableResponse<>(pool);
+      final CompletableResponse<String> outer = new CompletableResponse<String>(pool).completeAsync(() -> {
+        inner.completeAsync(() -> DEFAULT_STRING); //Needs a second worker while this one blocks.
+        return inner.get();
+      });
+      Assertions.assertEquals(DEFAULT_STRING, outer.get(2, TimeUnit.SECONDS));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Test: {@link CompletableResponse#delayed(Duration, dev.dotspace.common.function.ThrowableSupplier)},
+   * {@link CompletableResponse#completeAt(SpaceTime.Timestamp, Object)} and {@link CompletableResponse#delayedExecutor(Duration)}.
+   */
+  @Test
+  public void testDelayed() throws InterruptedException {
+    final SpaceTime.Timestamp start = SpaceTime.timestampNow();
+    final CompletableResponse<String> delayed = CompletableResponse.delayed(Duration.ofMillis(50), () -> DEFAULT_STRING);
+    Assertions.assertFalse(delayed.done());
+    Assertions.assertEquals(DEFAULT_STRING, delayed.get(1, TimeUnit.SECONDS));
+    Assertions.assertTrue(start.pastTime() >= TimeUnit.MILLISECONDS.toNanos(50));
+
+    final CompletableResponse<String> completeAt = new CompletableResponse<String>()
+      .completeAt(new SpaceTime.Timestamp(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20)), DEFAULT_STRING);
+    final CompletableResponse<String> stageThread = completeAt.map(ignored -> Thread.currentThread().getName());
+    Assertions.assertEquals(DEFAULT_STRING, completeAt.get(1, TimeUnit.SECONDS));
+    Assertions.assertNotEquals("response-scheduler", stageThread.get(1, TimeUnit.SECONDS)); //Timer only hands over.
+
+    final AtomicInteger executions = new AtomicInteger();
+    final CompletableResponse<String> canceled = CompletableResponse.delayed(Duration.ofMillis(20), () -> {
+      executions.incrementAndGet();
+      return DEFAULT_STRING;
+    });
+    canceled.cancel();
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    CompletableResponse.delayedExecutor(Duration.ofMillis(50)).execute(latch::countDown);
+    Assertions.assertTrue(latch.await(1, TimeUnit.SECONDS));
+    Assertions.assertEquals(0, executions.get()); //Canceled before delay.
+  }
+
+  /**
+   * Test: {@link CompletableResponse#pollUntil(dev.dotspace.common.function.ThrowableSupplier, Duration, Duration, double)}.
+   */
+  @Test
+  public void testPollUntil() throws InterruptedException {
+    final AtomicInteger probes = new AtomicInteger();
+    final CompletableResponse<Boolean> poll = CompletableResponse.pollUntil(() -> probes.incrementAndGet() >= 3,
+      Duration.ofMillis(5), Duration.ofSeconds(1), 2D);
+    Assertions.assertEquals(Boolean.TRUE, poll.get(1, TimeUnit.SECONDS));
+    Assertions.assertEquals(3, probes.get());
+
+    final CompletableResponse<String> timeout = CompletableResponse.pollUntil(() -> null,
+      Duration.ofMillis(5), Duration.ofMillis(30));
+    Assertions.assertThrows(TimeoutException.class, timeout::block);
+  }
 
+  /**
+   * Test: stages run in order of registration and only for their states.
+   */
+  @Test
+  public void testStageOrder() {
+    final StringBuilder order = new StringBuilder();
+    final CompletableResponse<String> response = new CompletableResponse<>();
+    response
+      .ifPresent(value -> order.append("a"))
+      .ifAbsent(() -> order.append("x"))
+      .ifExceptionally(throwable -> order.append("x"))
+      .sniff((state, value, throwable) -> order.append("b"))
+      .ifPresent(value -> order.append("c"));
+    response.complete(DEFAULT_STRING);
+    response.ifPresent(value -> order.append("d")); //Completed, runs directly.
+
+    Assertions.assertEquals("abcd", order.toString());
+  }
+
+  /**
+   * Test: asynchronous stages are submitted in order of registration relative to synchronous stages.
+   */
+  @Test
+  public void testMixedStageOrder() {
+    final StringBuffer order = new StringBuffer();
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+      new LinkedBlockingQueue<>()) {
+      @Override
+      public void execute(@NotNull final Runnable command) {
+        order.append("s"); //Submitted to executor.
+        super.execute(command);
+      }
+    };
+
+    try {
+      final CompletableResponse<String> response = new CompletableResponse<>(executor);
+      response
+        .ifPresentAsync(value -> {
+        })
+        .ifPresent(value -> order.append("b"))
+        .ifPresentAsync(value -> {
+        })
+        .ifPresentAsync(value -> {
+        })
+        .ifPresent(value -> order.append("e"));
+      response.complete(DEFAULT_STRING);
+
+      Assertions.assertEquals("sbse", order.toString()); //Consecutive asynchronous stages share one task.
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Test: {@link CompletableResponse#mapAdaptive(ThrowableFunction)} runs cheap functions
+   * on the completing thread once measured and keeps expensive ones on the executor.
+   */
+  @Test
+  public void testAdaptive() throws InterruptedException {
+    final Thread current = Thread.currentThread();
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS,
+      new LinkedBlockingQueue<>());
+    CompletableResponse.adaptiveThreshold(executor, Duration.ofMillis(2)); //Only for responses of executor.
+
+    try {
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+      boolean measured = false;
+      for (int i = 0; i < 5; i++) {
+        final Thread thread = this.adaptiveThread(executor, value -> value);
+        if (i == 0) {
+          Assertions.assertNotSame(current, thread); //Not measured yet.
+        } else if (measured) {
+          Assertions.assertSame(current, thread); //Measured as cheap.
+        } else if (current == thread) {
+          measured = true; //Cost is recorded after the downstream stage completed, wait for it.
+        } else {
+          Assertions.assertTrue(System.nanoTime() < deadline, "Cost was never recorded.");
+          i = 0; //Retry until measured.
+        }
+      }
+      Assertions.assertTrue(measured);
+
+      for (int i = 0; i < 3; i++) {
+        Assertions.assertNotSame(current, this.adaptiveThread(executor, value -> {
+          Thread.sleep(5);
+          return value;
+        }));
+      }
+    } finally {
+      CompletableResponse.adaptiveThreshold(executor, null);
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Get thread the given function is executed on, functions of one call site share their class.
+   *
+   * @param executor of response.
+   * @param function to execute adaptive.
+   * @return thread of execution.
+   */
+  private Thread adaptiveThread(@NotNull final ThreadPoolExecutor executor,
+                                @NotNull final ThrowableFunction<String, String> function) throws InterruptedException {
+    final CompletableResponse<String> response = new CompletableResponse<>(executor);
+    final CompletableResponse<Thread> thread = response.mapAdaptive(function).map(ignored -> Thread.currentThread());
+    response.complete(DEFAULT_STRING);
+    return thread.get(1, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Test: {@link CompletableResponse#flatMap(ThrowableFunction)} completes with the created response.
+   */
+  @Test
+  public void testFlatMap() throws InterruptedException {
+    final CompletableResponse<String> inner = new CompletableResponse<>();
+    final CompletableResponse<String> response = new CompletableResponse<>();
+    final CompletableResponse<String> flatMapped = response.flatMapAsync(value -> inner);
+    response.complete(DEFAULT_STRING);
+    inner.complete(DEFAULT_STRING + "Inner");
+    Assertions.assertEquals(DEFAULT_STRING + "Inner", flatMapped.get(1, TimeUnit.SECONDS));
+
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    new CompletableResponse<String>()
+      .complete(DEFAULT_STRING)
+      .flatMap(value -> new CompletableResponse<Integer>().completeExceptionally(new MismatchException()))
+      .ifExceptionally(error::set);
+    Assertions.assertInstanceOf(MismatchException.class, error.get());
+
+    new CompletableResponse<String>()
+      .complete(DEFAULT_STRING)
+      .flatMap(value -> null)
+      .ifExceptionally(error::set);
+    Assertions.assertInstanceOf(NullPointerException.class, error.get());
+  }
+
+  /**
+   * Test: long chains of {@link CompletableResponse#flatMap(ThrowableFunction)} do not grow the stack.
+   */
+  @Test
+  public void testFlatMapChain() throws InterruptedException {
+    final CompletableResponse<Integer> root = new CompletableResponse<>();
+    CompletableResponse<Integer> chain = root;
+    for (int i = 0; i < 100_000; i++) {
+      chain = chain.flatMap(value -> new CompletableResponse<Integer>().complete(value + 1));
+    }
+    root.complete(0);
+    Assertions.assertEquals(Integer.valueOf(100_000), chain.get(1, TimeUnit.SECONDS));
+  }
+
+  /**
+   * Test: {@link CompletableResponse#zip(CompletableResponse, CompletableResponse, ThrowableBiFunction)}.
+   */
+  @Test
+  public void testZip() throws InterruptedException {
+    final CompletableResponse<String> first = new CompletableResponse<>();
+    final CompletableResponse<Integer> second = new CompletableResponse<>();
+    final CompletableResponse<String> zipped = CompletableResponse.zip(first, second, (string, integer) -> string + integer);
+    first.complete(DEFAULT_STRING);
+    Assertions.assertFalse(zipped.done());
+    second.complete(1);
+    Assertions.assertEquals(DEFAULT_STRING + 1, zipped.get(1, TimeUnit.SECONDS));
+
+    final CompletableResponse<String> third = CompletableResponse.zip(
+      new CompletableResponse<String>().complete(DEFAULT_STRING),
+      new CompletableResponse<String>().complete(null),
+      new CompletableResponse<Integer>().complete(2),
+      (string, absent, integer) -> string + absent + integer);
+    Assertions.assertEquals(DEFAULT_STRING + "null2", third.get(1, TimeUnit.SECONDS));
+
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    final CompletableResponse<String> failed = CompletableResponse.zip(
+      new CompletableResponse<String>(),
+      new CompletableResponse<String>().completeExceptionally(new MismatchException()),
+      (a, b) -> a + b);
+    failed.ifExceptionally(error::set);
+    Assertions.assertInstanceOf(MismatchException.class, error.get()); //Completed without waiting for first one.
+
+    Assertions.assertThrows(NullPointerException.class, () -> CompletableResponse.zip(null, second, (a, b) -> a));
+  }
 }
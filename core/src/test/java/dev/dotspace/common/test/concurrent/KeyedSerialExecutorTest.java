@@ -0,0 +1,97 @@
+package dev.dotspace.common.test.concurrent;
+
+import dev.dotspace.common.concurrent.KeyedSerialExecutor;
+import dev.dotspace.common.response.CompletableResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Test class {@link KeyedSerialExecutor}.
+ */
+public class KeyedSerialExecutorTest {
+  /**
+   * Test order and exclusion of tasks per key.
+   */
+  @Test
+  public void testExecute() throws InterruptedException {
+    final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    try {
+      final KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>(pool);
+      final List<Integer> first = new ArrayList<>(); //No lock needed.
+      final List<Integer> second = new ArrayList<>();
+      final AtomicBoolean firstRunning = new AtomicBoolean();
+      final AtomicBoolean overlap = new AtomicBoolean();
+      final CountDownLatch latch = new CountDownLatch(2000);
+
+      for (int i = 0; i < 1000; i++) {
+        final int number = i;
+        executor.execute("first", () -> {
+          if (!firstRunning.compareAndSet(false, true)) {
+            overlap.set(true);
+          }
+          first.add(number);
+          firstRunning.set(false);
+          latch.countDown();
+        });
+        executor.forKey("second").execute(() -> {
+          second.add(number);
+          latch.countDown();
+        });
+      }
+
+      Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+      Assertions.assertFalse(overlap.get());
+      for (int i = 0; i < 1000; i++) {
+        Assertions.assertEquals(Integer.valueOf(i), first.get(i));
+        Assertions.assertEquals(Integer.valueOf(i), second.get(i));
+      }
+
+      final CompletableResponse<String> response = new CompletableResponse<String>(executor.forKey("first"))
+        .completeAsync(() -> "Test");
+      Assertions.assertEquals("Test", response.get(1, TimeUnit.SECONDS));
+
+      Thread.sleep(50); //Let drains remove their queues.
+      Assertions.assertEquals(0, executor.activeKeys());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Test that errors of tasks and rejected drains do not leave a key without drain.
+   */
+  @Test
+  public void testFailure() throws InterruptedException {
+    final ExecutorService pool = Executors.newSingleThreadExecutor(runnable -> {
+      final Thread thread = new Thread(runnable);
+      thread.setUncaughtExceptionHandler((ignored, throwable) -> {
+        //Expected errors of test.
+      });
+      return thread;
+    });
+
+    final KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>(pool);
+    final CountDownLatch latch = new CountDownLatch(1);
+    executor.execute("key", () -> {
+      throw new AssertionError("Test"); //Error, not a runtime exception.
+    });
+    executor.execute("key", latch::countDown);
+    Assertions.assertTrue(latch.await(1, TimeUnit.SECONDS));
+
+    pool.shutdown();
+    Assertions.assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS));
+    Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute("key", () -> {
+    }));
+    Assertions.assertEquals(0, executor.activeKeys()); //Rejected queue is not kept.
+  }
+}
@@ -0,0 +1,97 @@
+package dev.dotspace.common.test.concurrent;
+
+import dev.dotspace.common.concurrent.PriorityExecutorService;
+import dev.dotspace.common.response.CompletableResponse;
+import dev.dotspace.common.response.Priority;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class {@link PriorityExecutorService}.
+ */
+public final class PriorityExecutorServiceTest {
+  /**
+   * Test order of queued tasks by priority.
+   */
+  @Test
+  public void testPriorityOrder() throws InterruptedException {
+    final PriorityExecutorService executor = new PriorityExecutorService(1, Duration.ofHours(1));
+    final List<String> order = new CopyOnWriteArrayList<>();
+    final CountDownLatch latch = this.blockWorker(executor);
+
+    executor.execute(() -> order.add("low"), Priority.LOW);
+    executor.execute(() -> order.add("normal"));
+    final CompletableResponse<String> response = new CompletableResponse<String>(executor)
+      .completeAsync(() -> "high", Priority.HIGH)
+      .ifPresent(order::add);
+    Assertions.assertEquals(1, executor.queued(Priority.LOW));
+    latch.countDown();
+
+    Assertions.assertEquals("high", response.get(1, TimeUnit.SECONDS));
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    Assertions.assertEquals(List.of("high", "normal", "low"), order);
+    Assertions.assertEquals(1, executor.waitTracker(Priority.LOW).count());
+  }
+
+  /**
+   * Test aging of low priority tasks.
+   */
+  @Test
+  public void testAging() throws InterruptedException {
+    final PriorityExecutorService executor = new PriorityExecutorService(1, Duration.ofMillis(1));
+    final List<String> order = new CopyOnWriteArrayList<>();
+    final CountDownLatch latch = this.blockWorker(executor);
+
+    executor.execute(() -> order.add("low"), Priority.LOW);
+    Thread.sleep(20); //More than two aging periods.
+    executor.execute(() -> order.add("high"), Priority.HIGH);
+    latch.countDown();
+
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    Assertions.assertEquals(List.of("low", "high"), order);
+  }
+
+  /**
+   * Test that an error of a task does not kill the worker.
+   */
+  @Test
+  public void testError() throws InterruptedException {
+    final PriorityExecutorService executor = new PriorityExecutorService(1, Duration.ofHours(1));
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    executor.execute(() -> {
+      throw new AssertionError("Test"); //Error, not a runtime exception.
+    });
+    executor.execute(latch::countDown);
+    Assertions.assertTrue(latch.await(1, TimeUnit.SECONDS));
+
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+  }
+
+  /**
+   * Occupy the worker until the returned latch is released.
+   */
+  private @NotNull CountDownLatch blockWorker(@NotNull final PriorityExecutorService executor) throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch latch = new CountDownLatch(1);
+    executor.execute(() -> {
+      started.countDown();
+      try {
+        latch.await();
+      } catch (final InterruptedException ignored) {
+      }
+    }, Priority.HIGH);
+    started.await();
+    return latch;
+  }
+}
@@ -0,0 +1,94 @@
+package dev.dotspace.common.test.concurrent;
+
+import dev.dotspace.common.concurrent.TickExecutor;
+import dev.dotspace.common.response.CompletableResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class {@link TickExecutor}.
+ */
+public class TickExecutorTest {
+  /**
+   * Test budget and carry over of tasks.
+   */
+  @Test
+  public void testTick() throws InterruptedException {
+    final TickExecutor executor = new TickExecutor(1); //Every task exceeds budget.
+    for (int i = 0; i < 3; i++) {
+      executor.execute(() -> {
+      });
+    }
+    Assertions.assertEquals(3, executor.backlog());
+
+    Assertions.assertEquals(1, executor.tick()); //At least one task per tick.
+    Assertions.assertEquals(2, executor.backlog());
+    Assertions.assertEquals(1, executor.overruns());
+    Assertions.assertEquals(1, executor.tick());
+    Assertions.assertEquals(1, executor.tick());
+    Assertions.assertEquals(0, executor.backlog());
+
+    final TickExecutor largeBudget = new TickExecutor(Duration.ofSeconds(10));
+    for (int i = 0; i < 3; i++) {
+      largeBudget.execute(() -> {
+      });
+    }
+    Assertions.assertEquals(3, largeBudget.tick());
+    Assertions.assertEquals(0, largeBudget.tick());
+    Assertions.assertEquals(2, largeBudget.ticks());
+    Assertions.assertEquals(0, largeBudget.overruns());
+
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+    }));
+  }
+
+  /**
+   * Test continuation of a {@link CompletableResponse} in the tick thread.
+   */
+  @Test
+  public void testResponse() throws InterruptedException {
+    final TickExecutor executor = new TickExecutor(Duration.ofMillis(5));
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    final CompletableResponse<String> response = new CompletableResponse<String>(executor).completeAsync(() -> {
+      thread.set(Thread.currentThread());
+      return "Test";
+    });
+
+    Thread.sleep(10);
+    Assertions.assertFalse(response.done()); //Nothing runs without tick.
+    executor.tick();
+    Assertions.assertEquals("Test", response.get(1, TimeUnit.SECONDS));
+    Assertions.assertSame(Thread.currentThread(), thread.get());
+  }
+
+  /**
+   * Test that an error of a task does not escape {@link TickExecutor#tick()}.
+   */
+  @Test
+  public void testError() {
+    final TickExecutor executor = new TickExecutor(Duration.ofSeconds(10));
+    final AtomicReference<Throwable> reported = new AtomicReference<>();
+    final Thread thread = Thread.currentThread();
+    final Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+    thread.setUncaughtExceptionHandler((ignored, throwable) -> reported.set(throwable));
+
+    try {
+      executor.execute(() -> {
+        throw new AssertionError("Test"); //Error, not a runtime exception.
+      });
+      executor.execute(() -> {
+      });
+      Assertions.assertEquals(2, executor.tick()); //Following task still ran.
+      Assertions.assertInstanceOf(AssertionError.class, reported.get());
+    } finally {
+      thread.setUncaughtExceptionHandler(handler);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.response.LatencyTracker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class {@link LatencyTracker}.
+ */
+public final class LatencyTrackerTest {
+  /**
+   * Test that {@link LatencyTracker#cachedPercentile(double)} is refreshed after a sixteenth of the capacity.
+   */
+  @Test
+  public void testCachedPercentile() {
+    final LatencyTracker latencyTracker = new LatencyTracker(32); //Refreshed every 2 samples.
+    Assertions.assertEquals(-1, latencyTracker.cachedPercentile(0.5D));
+
+    for (int i = 1; i <= 10; i++) {
+      latencyTracker.record(i);
+    }
+    Assertions.assertEquals(5, latencyTracker.cachedPercentile(0.5D));
+
+    latencyTracker.record(100);
+    Assertions.assertEquals(5, latencyTracker.cachedPercentile(0.5D)); //Sorted samples are reused.
+    Assertions.assertEquals(6, latencyTracker.percentile(0.5D)); //Always sorted again.
+
+    latencyTracker.record(100);
+    Assertions.assertEquals(6, latencyTracker.cachedPercentile(0.5D));
+    Assertions.assertEquals(100, latencyTracker.cachedPercentile(1D));
+  }
+}
@@ -0,0 +1,69 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.exception.ResponseAssemblyException;
+import dev.dotspace.common.response.CompletableResponse;
+import dev.dotspace.common.response.Response;
+import dev.dotspace.common.response.ResponseAssembly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class {@link ResponseAssembly}.
+ */
+public final class ResponseAssemblyTest {
+  /**
+   * Test that the site of a failed map stage is attached.
+   */
+  @Test
+  public void testAttach() throws InterruptedException {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ResponseAssembly.enable(0D, 8));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ResponseAssembly.enable(1D, 0));
+
+    ResponseAssembly.enable(1D, 4);
+    final Throwable throwable;
+    try {
+      Assertions.assertTrue(ResponseAssembly.enabled());
+      throwable = this.failedThrowable(this.assembleFailingChain());
+    } finally {
+      ResponseAssembly.disable();
+    }
+
+    Assertions.assertEquals(1, throwable.getSuppressed().length);
+    final Throwable assembly = throwable.getSuppressed()[0];
+    Assertions.assertInstanceOf(ResponseAssemblyException.class, assembly);
+    Assertions.assertTrue(assembly.getStackTrace().length <= 4);
+    Assertions.assertEquals("assembleFailingChain", assembly.getStackTrace()[0].getMethodName()); //Internal frames skipped.
+  }
+
+  /**
+   * Test that nothing is attached while disabled.
+   */
+  @Test
+  public void testDisabled() throws InterruptedException {
+    Assertions.assertFalse(ResponseAssembly.enabled());
+    Assertions.assertEquals(0, this.failedThrowable(this.assembleFailingChain()).getSuppressed().length);
+  }
+
+  private Response<Integer> assembleFailingChain() {
+    return new CompletableResponse<String>()
+      .completeAsync(() -> "Test")
+      .map(value -> {
+        throw new IllegalStateException("Test");
+      });
+  }
+
+  private Throwable failedThrowable(final Response<Integer> response) throws InterruptedException {
+    final AtomicReference<Throwable> reference = new AtomicReference<>();
+    final CountDownLatch countDownLatch = new CountDownLatch(1);
+    response.ifExceptionally(throwable -> {
+      reference.set(throwable);
+      countDownLatch.countDown();
+    });
+    Assertions.assertTrue(countDownLatch.await(1, TimeUnit.SECONDS));
+    return reference.get();
+  }
+}
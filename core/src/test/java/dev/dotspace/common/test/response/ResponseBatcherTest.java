@@ -0,0 +1,86 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.response.CompletableResponse;
+import dev.dotspace.common.response.ResponseBatcher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class {@link ResponseBatcher}.
+ */
+public final class ResponseBatcherTest {
+  /**
+   * Test batch dispatch by size and by delay.
+   */
+  @Test
+  public void testLoad() throws InterruptedException {
+    final AtomicInteger bulkCalls = new AtomicInteger();
+    final ResponseBatcher<Integer, String> batcher = new ResponseBatcher<>(keys -> {
+      bulkCalls.incrementAndGet();
+      final Map<Integer, String> values = new HashMap<>();
+      for (final Integer key : keys) {
+        if (key != 0) { //Key 0 has no value.
+          values.put(key, "Value" + key);
+        }
+      }
+      return values;
+    }, 3, Duration.ofMillis(20));
+
+    //Full batch.
+    final CompletableResponse<String> first = batcher.load(1);
+    Assertions.assertSame(first, batcher.load(1)); //Same key, same response.
+    final CompletableResponse<String> second = batcher.load(2);
+    final CompletableResponse<String> absent = batcher.load(0);
+    Assertions.assertEquals("Value1", first.get(1, TimeUnit.SECONDS));
+    Assertions.assertEquals("Value2", second.get(1, TimeUnit.SECONDS));
+    Assertions.assertNull(absent.get(1, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, bulkCalls.get());
+
+    //Batch dispatched after delay.
+    Assertions.assertEquals("Value3", batcher.load(3).get(1, TimeUnit.SECONDS));
+    Assertions.assertEquals(2, bulkCalls.get());
+  }
+
+  /**
+   * Test that a flush fired while its batch was taken does not dispatch the next batch.
+   */
+  @Test
+  public void testStaleFlush() throws InterruptedException {
+    final ResponseBatcher<Integer, Integer> batcher = new ResponseBatcher<>(keys -> {
+      final Map<Integer, Integer> values = new HashMap<>();
+      for (final Integer key : keys) {
+        values.put(key, key);
+      }
+      return values;
+    }, 2, Duration.ofMillis(100));
+
+    final CompletableResponse<Integer> third;
+    synchronized (batcher) { //Timer of first batch fires and waits for lock.
+      batcher.load(1);
+      Thread.sleep(300);
+      batcher.load(2); //Full batch, taken before timer got the lock.
+      third = batcher.load(3); //Next batch with fresh timer.
+    }
+    Thread.sleep(30);
+    Assertions.assertEquals(1, batcher.pending()); //Stale flush ignored.
+    Assertions.assertEquals(Integer.valueOf(3), third.get(1, TimeUnit.SECONDS));
+  }
+
+  /**
+   * Test error in bulk function.
+   */
+  @Test
+  public void testLoadExceptionally() {
+    final ResponseBatcher<Integer, String> batcher = new ResponseBatcher<>(keys -> {
+      throw new IllegalStateException();
+    }, 10, Duration.ofMillis(1));
+
+    Assertions.assertThrows(IllegalStateException.class, () -> batcher.load(1).block());
+  }
+}
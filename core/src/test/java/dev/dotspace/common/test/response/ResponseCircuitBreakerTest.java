@@ -0,0 +1,122 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.exception.CircuitBreakerOpenException;
+import dev.dotspace.common.response.Response;
+import dev.dotspace.common.response.ResponseCircuitBreaker;
+import dev.dotspace.common.response.ResponseService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class {@link ResponseCircuitBreaker}.
+ */
+public final class ResponseCircuitBreakerTest {
+  /**
+   * Test state transitions of {@link ResponseCircuitBreaker}.
+   */
+  @Test
+  public void testTransitions() throws InterruptedException {
+    final ResponseCircuitBreaker circuitBreaker = ResponseCircuitBreaker.builder()
+      .windowSize(4)
+      .minimumCalls(4)
+      .failureRateThreshold(0.5D)
+      .openDuration(Duration.ofMillis(100))
+      .permittedHalfOpenCalls(2)
+      .build();
+
+    for (int i = 0; i < 4; i++) {
+      Assertions.assertTrue(circuitBreaker.tryAcquire());
+      circuitBreaker.record(1, i % 2 == 0);
+    }
+    Assertions.assertEquals(ResponseCircuitBreaker.CircuitState.OPEN, circuitBreaker.state());
+    Assertions.assertFalse(circuitBreaker.tryAcquire());
+
+    Thread.sleep(150); //Wait for open duration.
+    Assertions.assertTrue(circuitBreaker.tryAcquire());
+    Assertions.assertTrue(circuitBreaker.tryAcquire());
+    Assertions.assertFalse(circuitBreaker.tryAcquire()); //Only two calls in half open state.
+    Assertions.assertEquals(ResponseCircuitBreaker.CircuitState.HALF_OPEN, circuitBreaker.state());
+
+    circuitBreaker.record(1, false);
+    circuitBreaker.record(1, false);
+    Assertions.assertEquals(ResponseCircuitBreaker.CircuitState.CLOSED, circuitBreaker.state());
+  }
+
+  /**
+   * Test {@link ResponseService#completeAsync(dev.dotspace.common.function.ThrowableSupplier)} with open circuit.
+   */
+  @Test
+  public void testServiceRejects() throws InterruptedException {
+    final ResponseService responseService = ResponseService.builder()
+      .circuitBreaker(ResponseCircuitBreaker.builder().windowSize(1).minimumCalls(1).build())
+      .build();
+
+    final Response<String> failed = responseService.completeAsync(() -> {
+      throw new IllegalStateException();
+    });
+    failed.get(1, TimeUnit.SECONDS);
+
+    final Response<String> rejected = responseService.completeAsync(() -> "Test");
+    Assertions.assertTrue(rejected.exceptionally());
+    Assertions.assertThrows(CircuitBreakerOpenException.class, rejected::block);
+  }
+
+  /**
+   * Test that hedged attempts need a permit.
+   */
+  @Test
+  public void testServiceHedged() throws InterruptedException {
+    final ResponseService responseService = ResponseService.builder()
+      .circuitBreaker(ResponseCircuitBreaker.builder().windowSize(1).minimumCalls(1).build())
+      .build();
+    responseService.completeAsync(() -> {
+      throw new IllegalStateException();
+    }).get(1, TimeUnit.SECONDS);
+
+    final AtomicInteger calls = new AtomicInteger();
+    final Response<String> rejected = responseService.hedged(() -> {
+      calls.incrementAndGet();
+      return "Test";
+    }, Duration.ofMillis(5), 3);
+    rejected.get(1, TimeUnit.SECONDS);
+    Assertions.assertThrows(CircuitBreakerOpenException.class, rejected::block);
+    Assertions.assertEquals(0, calls.get()); //Downstream was never called.
+  }
+
+  /**
+   * Test that the half open permit of a call that never ran is given back.
+   */
+  @Test
+  public void testServiceReleasesPermit() throws InterruptedException {
+    final ResponseCircuitBreaker circuitBreaker = ResponseCircuitBreaker.builder()
+      .windowSize(1)
+      .minimumCalls(1)
+      .openDuration(Duration.ofMillis(1))
+      .permittedHalfOpenCalls(1)
+      .build();
+    final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    final ResponseService responseService = ResponseService.builder()
+      .executorService(executorService)
+      .circuitBreaker(circuitBreaker)
+      .build();
+    responseService.completeAsync(() -> {
+      throw new IllegalStateException();
+    }).get(1, TimeUnit.SECONDS);
+    Assertions.assertEquals(ResponseCircuitBreaker.CircuitState.OPEN, circuitBreaker.state());
+
+    executorService.shutdown();
+    Thread.sleep(5); //Open duration is over.
+    final Response<String> rejected = responseService.completeAsync(() -> "Test"); //Takes the only half open permit.
+    rejected.get(1, TimeUnit.SECONDS);
+    Assertions.assertThrows(RejectedExecutionException.class, rejected::block);
+    Assertions.assertEquals(ResponseCircuitBreaker.CircuitState.HALF_OPEN, circuitBreaker.state());
+    Assertions.assertTrue(circuitBreaker.tryAcquire()); //Permit was given back.
+  }
+}
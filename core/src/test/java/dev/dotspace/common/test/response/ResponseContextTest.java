@@ -0,0 +1,42 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.response.CompletableResponse;
+import dev.dotspace.common.response.ResponseContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class {@link ResponseContext}.
+ */
+public final class ResponseContextTest {
+  /**
+   * Test propagation of a {@link ThreadLocal} into asynchronous stages.
+   */
+  @Test
+  public void testThreadLocalPropagation() throws InterruptedException {
+    final ThreadLocal<String> traceId = new ThreadLocal<>();
+    final ResponseContext.Provider<String> provider = new ResponseContext.ThreadLocalProvider<>(traceId);
+    ResponseContext.register(provider);
+
+    try {
+      traceId.set("Trace");
+      final CompletableResponse<String> response = new CompletableResponse<String>().completeAsync(traceId::get);
+      final CompletableResponse<String> source = new CompletableResponse<>();
+      final CompletableResponse<String> mapped = source.mapAsync(ignored -> traceId.get());
+      traceId.remove();
+      source.complete("Start"); //Completed without context, stage still has context of creation.
+
+      Assertions.assertEquals("Trace", response.get(1, TimeUnit.SECONDS));
+      Assertions.assertEquals("Trace", mapped.get(1, TimeUnit.SECONDS));
+      Assertions.assertNull(traceId.get()); //Context of this thread untouched.
+    } finally {
+      ResponseContext.unregister(provider);
+    }
+
+    traceId.set("Trace");
+    Assertions.assertNull(new CompletableResponse<String>().completeAsync(traceId::get).get(1, TimeUnit.SECONDS));
+    traceId.remove();
+  }
+}
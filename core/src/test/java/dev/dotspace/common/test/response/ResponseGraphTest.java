@@ -0,0 +1,70 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.response.CompletableResponse;
+import dev.dotspace.common.response.ResponseGraph;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class {@link ResponseGraph}.
+ */
+public final class ResponseGraphTest {
+  /**
+   * Test run of a diamond graph.
+   */
+  @Test
+  public void testRun() throws Throwable {
+    final ResponseGraph graph = new ResponseGraph()
+      .task("sum", inputs -> inputs.<Integer>get("left") + inputs.<Integer>get("right"), "left", "right")
+      .task("root", inputs -> 1)
+      .task("left", inputs -> inputs.<Integer>get("root") + 1, "root")
+      .task("right", inputs -> {
+        Thread.sleep(50); //Slowest path.
+        return inputs.<Integer>get("root") + 2;
+      }, "root");
+
+    final CompletableResponse<Integer> sum = graph.response("sum");
+    final ResponseGraph.Report report = graph.run().get(1, TimeUnit.SECONDS);
+
+    Assertions.assertEquals(Integer.valueOf(5), sum.get(1, TimeUnit.SECONDS));
+    Assertions.assertNotNull(report);
+    Assertions.assertEquals(List.of("root", "right", "sum"), report.criticalPath().stream().map(ResponseGraph.Timing::name).toList());
+    Assertions.assertTrue(report.timings().get("right").durationNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  /**
+   * Test validation of dependencies.
+   */
+  @Test
+  public void testValidation() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new ResponseGraph()
+      .task("a", inputs -> 1, "c")
+      .task("b", inputs -> 1, "a")
+      .task("c", inputs -> 1, "b")
+      .run());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new ResponseGraph().task("a", inputs -> 1, "missing").run());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new ResponseGraph().task("a", inputs -> 1).task("a", inputs -> 1));
+  }
+
+  /**
+   * Test cancel of dependents if a task fails.
+   */
+  @Test
+  public void testFailure() throws InterruptedException {
+    final ResponseGraph graph = new ResponseGraph()
+      .task("fail", inputs -> {
+        throw new IllegalStateException();
+      })
+      .task("child", inputs -> 1, "fail")
+      .task("grandchild", inputs -> 1, "child");
+
+    final CompletableResponse<ResponseGraph.Report> run = graph.run();
+    Assertions.assertThrows(IllegalStateException.class, run::block);
+    graph.response("grandchild").get(1, TimeUnit.SECONDS);
+    Assertions.assertTrue(graph.response("child").canceled());
+    Assertions.assertTrue(graph.response("grandchild").canceled());
+  }
+}
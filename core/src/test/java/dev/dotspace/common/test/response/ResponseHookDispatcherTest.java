@@ -0,0 +1,95 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.response.Response;
+import dev.dotspace.common.response.ResponseHookDispatcher;
+import dev.dotspace.common.response.ResponseService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class {@link ResponseHookDispatcher}.
+ */
+public final class ResponseHookDispatcherTest {
+  /**
+   * Test that slow consumers do not delay completion.
+   */
+  @Test
+  public void testConsumersOffThread() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch completed = new CountDownLatch(1);
+    try (final ResponseHookDispatcher hookDispatcher = new ResponseHookDispatcher(16, ResponseHookDispatcher.OverflowPolicy.BLOCK)) {
+      final ResponseService responseService = ResponseService.builder()
+        .createConsumer(response -> release.await()) //Blocks dispatcher thread, not the caller.
+        .completeConsumer(response -> completed.countDown())
+        .hookDispatcher(hookDispatcher)
+        .build();
+
+      final Response<String> response = responseService.<String>newInstance().complete("Test");
+      Assertions.assertEquals("Test", response.get(1, TimeUnit.SECONDS));
+      Assertions.assertEquals(1, completed.getCount()); //Queued behind create consumer.
+
+      release.countDown();
+      Assertions.assertTrue(completed.await(1, TimeUnit.SECONDS));
+    }
+  }
+
+  /**
+   * Test {@link ResponseHookDispatcher.OverflowPolicy#DROP}.
+   */
+  @Test
+  public void testDrop() {
+    final CountDownLatch release = new CountDownLatch(1);
+    try (final ResponseHookDispatcher hookDispatcher = new ResponseHookDispatcher(2, ResponseHookDispatcher.OverflowPolicy.DROP)) {
+      final ResponseService responseService = ResponseService.builder()
+        .createConsumer(response -> release.await())
+        .hookDispatcher(hookDispatcher)
+        .build();
+
+      for (int i = 0; i < 10; i++) {
+        responseService.newInstance(); //Never waits for the blocked dispatcher thread.
+      }
+      Assertions.assertTrue(hookDispatcher.dropped() >= 7); //One running, two queued.
+      release.countDown();
+    }
+  }
+
+  /**
+   * Test that every hook dispatched while closing either runs or is counted as dropped.
+   */
+  @Test
+  public void testCloseAccountsEveryHook() throws InterruptedException {
+    final int producers = 4;
+    final int hooks = 20_000;
+    final AtomicLong ran = new AtomicLong();
+    final ResponseHookDispatcher hookDispatcher = new ResponseHookDispatcher(64, ResponseHookDispatcher.OverflowPolicy.BLOCK);
+    final ResponseService responseService = ResponseService.builder()
+      .createConsumer(response -> ran.incrementAndGet())
+      .hookDispatcher(hookDispatcher)
+      .build();
+
+    final Thread[] threads = new Thread[producers];
+    for (int i = 0; i < producers; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < hooks; j++) {
+          responseService.newInstance();
+        }
+      });
+      threads[i].start();
+    }
+    Thread.sleep(5);
+    hookDispatcher.close(); //While producers are still dispatching.
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (ran.get() + hookDispatcher.dropped() < (long) producers * hooks && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    Assertions.assertEquals((long) producers * hooks, ran.get() + hookDispatcher.dropped());
+  }
+}
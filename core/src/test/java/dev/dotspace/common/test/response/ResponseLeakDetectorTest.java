@@ -0,0 +1,59 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.exception.ResponseLeakException;
+import dev.dotspace.common.response.CompletableResponse;
+import dev.dotspace.common.response.ResponseLeakDetector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class {@link ResponseLeakDetector}.
+ */
+public final class ResponseLeakDetectorTest {
+  /**
+   * Test report of uncompleted responses.
+   */
+  @Test
+  public void testLeak() throws InterruptedException {
+    final AtomicReference<ResponseLeakException> reported = new AtomicReference<>();
+    ResponseLeakDetector.reporter(reported::set);
+    ResponseLeakDetector.enable(1D);
+
+    try {
+      final long leaks = ResponseLeakDetector.leaks();
+      for (int i = 0; i < 100; i++) {
+        new CompletableResponse<String>().complete("Completed"); //Never reported.
+      }
+      this.createLeak();
+
+      for (int i = 0; i < 100 && ResponseLeakDetector.leaks() == leaks; i++) {
+        System.gc();
+        Thread.sleep(20);
+      }
+
+      Assertions.assertEquals(leaks + 1, ResponseLeakDetector.leaks());
+      Assertions.assertNotNull(reported.get());
+      Assertions.assertEquals("createLeak", reported.get().getStackTrace()[2].getMethodName());
+    } finally {
+      ResponseLeakDetector.disable();
+      ResponseLeakDetector.reporter(Throwable::printStackTrace);
+    }
+  }
+
+  /**
+   * Test arguments of {@link ResponseLeakDetector#enable(double)}.
+   */
+  @Test
+  public void testEnable() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ResponseLeakDetector.enable(0D));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ResponseLeakDetector.enable(1.5D));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ResponseLeakDetector.enable(Double.NaN));
+    Assertions.assertFalse(ResponseLeakDetector.enabled());
+  }
+
+  private void createLeak() {
+    new CompletableResponse<String>();
+  }
+}
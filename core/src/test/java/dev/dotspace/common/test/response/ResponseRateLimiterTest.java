@@ -0,0 +1,59 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.response.Response;
+import dev.dotspace.common.response.ResponseRateLimiter;
+import dev.dotspace.common.response.ResponseService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class {@link ResponseRateLimiter}.
+ */
+public final class ResponseRateLimiterTest {
+  /**
+   * Test burst and delay of {@link ResponseRateLimiter#reserve()}.
+   */
+  @Test
+  public void testReserve() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new ResponseRateLimiter(0, 1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new ResponseRateLimiter(1, 0));
+
+    final ResponseRateLimiter rateLimiter = new ResponseRateLimiter(1, 3);
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertEquals(0L, rateLimiter.reserve()); //Burst.
+    }
+    Assertions.assertFalse(rateLimiter.tryAcquire());
+
+    final long delay = rateLimiter.reserve();
+    Assertions.assertTrue(delay > TimeUnit.MILLISECONDS.toNanos(900) && delay <= TimeUnit.SECONDS.toNanos(1));
+    Assertions.assertTrue(rateLimiter.reserve() > TimeUnit.MILLISECONDS.toNanos(1900)); //Queued behind previous permit.
+  }
+
+  /**
+   * Test that {@link ResponseService#completeAsync(dev.dotspace.common.function.ThrowableSupplier)} is delayed and not
+   * blocked by the limiter.
+   */
+  @Test
+  public void testService() throws Exception {
+    final ResponseService responseService = ResponseService.builder()
+      .rateLimiter(new ResponseRateLimiter(20, 2)) //One permit every 50 milliseconds.
+      .build();
+
+    final long start = System.nanoTime();
+    final List<Response<Long>> responses = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      responses.add(responseService.completeAsync(System::nanoTime));
+    }
+    Assertions.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(300)); //Caller never waits.
+
+    long last = 0;
+    for (final Response<Long> response : responses) {
+      last = Math.max(last, response.get(5, TimeUnit.SECONDS));
+    }
+    Assertions.assertTrue(last - start >= TimeUnit.MILLISECONDS.toNanos(350)); //Eight calls above burst.
+  }
+}
@@ -0,0 +1,166 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.response.CompletableResponse;
+import dev.dotspace.common.response.ResponseWatchdog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Test class {@link ResponseWatchdog}.
+ */
+public final class ResponseWatchdogTest {
+  /**
+   * Test warning of a thread waiting for a response.
+   */
+  @Test
+  public void testBlocked() throws InterruptedException {
+    final List<ResponseWatchdog.Warning> warnings = new CopyOnWriteArrayList<>();
+    try (final ResponseWatchdog watchdog = new ResponseWatchdog(Duration.ofHours(1), Duration.ofMillis(10), warnings::add).start()) {
+      final CompletableResponse<String> response = new CompletableResponse<>();
+      final Thread thread = new Thread(() -> {
+        try {
+          response.get();
+        } catch (final InterruptedException ignored) {
+        }
+      }, "blocked-thread");
+      thread.start();
+
+      Thread.sleep(100);
+      watchdog.sample();
+      watchdog.sample(); //Blocking is only reported once.
+
+      Assertions.assertEquals(1, warnings.size());
+      final ResponseWatchdog.Warning warning = warnings.get(0);
+      Assertions.assertEquals(ResponseWatchdog.Kind.BLOCKED, warning.kind());
+      Assertions.assertTrue(warning.durationNanos() >= Duration.ofMillis(10).toNanos());
+      Assertions.assertTrue(warning.stackTraces().containsKey(thread));
+
+      response.complete("Done");
+      thread.join(1000);
+      Assertions.assertFalse(thread.isAlive());
+    }
+  }
+
+  /**
+   * Test warning of a pool without free worker.
+   */
+  @Test
+  public void testStarvation() throws InterruptedException {
+    final List<ResponseWatchdog.Warning> warnings = new CopyOnWriteArrayList<>();
+    final ExecutorService executorService = Executors.newFixedThreadPool(1);
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    try (final ResponseWatchdog watchdog = new ResponseWatchdog(Duration.ofHours(1), Duration.ofMillis(10), warnings::add).watch(executorService)) {
+      executorService.execute(() -> {
+        try {
+          latch.await();
+        } catch (final InterruptedException ignored) {
+        }
+      });
+      executorService.execute(() -> {
+      }); //Waits for the only worker.
+
+      watchdog.sample(); //Head of queue seen first.
+      Thread.sleep(50);
+      watchdog.sample();
+
+      Assertions.assertEquals(1, warnings.size());
+      Assertions.assertEquals(ResponseWatchdog.Kind.STARVATION, warnings.get(0).kind());
+    } finally {
+      latch.countDown();
+      executorService.shutdown();
+    }
+  }
+
+  /**
+   * Test warning of a pool without queue whose busy workers all wait.
+   */
+  @Test
+  public void testStalledCachedPool() throws InterruptedException {
+    final List<ResponseWatchdog.Warning> warnings = new CopyOnWriteArrayList<>();
+    final ExecutorService executorService = Executors.newCachedThreadPool();
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    try (final ResponseWatchdog watchdog = new ResponseWatchdog(Duration.ofHours(1), Duration.ofMillis(10), warnings::add).watch(executorService)) {
+      executorService.execute(() -> {
+        started.countDown();
+        try {
+          latch.await();
+        } catch (final InterruptedException ignored) {
+        }
+      });
+      started.await();
+      Thread.sleep(20); //Let worker park.
+
+      watchdog.sample(); //Waiting worker seen first.
+      Thread.sleep(50);
+      watchdog.sample();
+
+      final ResponseWatchdog.PoolSample poolSample = watchdog.poolSamples().get(0);
+      Assertions.assertEquals(1, poolSample.activeCount());
+      Assertions.assertEquals(0, poolSample.queued()); //Cached pool never queues.
+      Assertions.assertEquals(Integer.valueOf(1), poolSample.workerStates().get(Thread.State.WAITING));
+      Assertions.assertFalse(poolSample.saturated());
+
+      Assertions.assertEquals(1, warnings.size());
+      Assertions.assertEquals(ResponseWatchdog.Kind.STARVATION, warnings.get(0).kind());
+      Assertions.assertSame(poolSample, warnings.get(0).poolSample());
+    } finally {
+      latch.countDown();
+      executorService.shutdown();
+    }
+  }
+
+  /**
+   * Test that idle workers waiting for tasks are no starvation and that the pool is restored on close.
+   */
+  @Test
+  public void testIdleWorker() throws InterruptedException {
+    final List<ResponseWatchdog.Warning> warnings = new CopyOnWriteArrayList<>();
+    final ThreadPoolExecutor executorService = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+    final ThreadFactory threadFactory = executorService.getThreadFactory();
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch idle = new CountDownLatch(1);
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    try {
+      try (final ResponseWatchdog watchdog = new ResponseWatchdog(Duration.ofHours(1), Duration.ofMillis(10), warnings::add).watch(executorService)) {
+        executorService.execute(() -> {
+          started.countDown();
+          try {
+            latch.await();
+          } catch (final InterruptedException ignored) {
+          }
+        });
+        started.await();
+        executorService.execute(idle::countDown); //Second worker, idle afterward.
+        idle.await();
+        Thread.sleep(20); //Let workers park.
+
+        watchdog.sample();
+        Thread.sleep(50);
+        watchdog.sample();
+
+        final ResponseWatchdog.PoolSample poolSample = watchdog.poolSamples().get(0);
+        Assertions.assertEquals(2, poolSample.poolSize());
+        Assertions.assertEquals(1, poolSample.activeCount());
+        Assertions.assertEquals(2, poolSample.trackedWorkers());
+        Assertions.assertTrue(warnings.isEmpty()); //Idle worker could take tasks.
+      }
+      Assertions.assertSame(threadFactory, executorService.getThreadFactory());
+    } finally {
+      latch.countDown();
+      executorService.shutdown();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package dev.dotspace.common.test.response;
+
+import dev.dotspace.common.response.Response;
+import dev.dotspace.common.response.ShardedResponseService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class {@link ShardedResponseService}.
+ */
+public final class ShardedResponseServiceTest {
+  /**
+   * Test routing of keys to shards.
+   */
+  @Test
+  public void testKeyRouting() throws InterruptedException {
+    final ShardedResponseService service = new ShardedResponseService(4);
+    try {
+      final String first = service.completeAsync("key", () -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS);
+      final String second = service.completeAsync("key", () -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS);
+      Assertions.assertEquals(first, second);
+
+      final List<ShardedResponseService.ShardStats> stats = service.stats();
+      Assertions.assertEquals(4, stats.size());
+      Assertions.assertEquals(64, stats.stream().mapToInt(ShardedResponseService.ShardStats::slots).sum());
+      Assertions.assertEquals(2, stats.stream().mapToLong(ShardedResponseService.ShardStats::submitted).sum());
+    } finally {
+      service.shutdown();
+    }
+  }
+
+  /**
+   * Test moving a slot of a hot shard.
+   */
+  @Test
+  public void testRebalance() throws InterruptedException {
+    final ShardedResponseService service = new ShardedResponseService(2);
+    try {
+      for (int i = 0; i < 10; i++) {
+        for (final int key : new int[]{0, 2, 4}) { //Slots of first shard.
+          service.completeAsync(key, () -> key).get(1, TimeUnit.SECONDS);
+        }
+      }
+      Assertions.assertEquals(0, service.stats().get(1).submitted());
+
+      Assertions.assertTrue(service.rebalance());
+      Assertions.assertEquals(17, service.stats().get(1).slots());
+      Assertions.assertFalse(service.rebalance()); //No load since last rebalance.
+    } finally {
+      service.shutdown();
+    }
+  }
+
+  /**
+   * Test that a slot with queued tasks keeps its shard until they are done.
+   */
+  @Test
+  public void testRebalanceKeepsOrder() throws InterruptedException {
+    final ShardedResponseService service = new ShardedResponseService(2);
+    final CountDownLatch latch = new CountDownLatch(1);
+    try {
+      for (int i = 0; i < 6; i++) {
+        for (final int key : new int[]{2, 4}) { //Slots of first shard.
+          service.completeAsync(key, () -> key).get(1, TimeUnit.SECONDS);
+        }
+      }
+      for (int i = 0; i < 8; i++) {
+        service.completeAsync(0, () -> 0).get(1, TimeUnit.SECONDS); //Busiest slot, moved by rebalance.
+      }
+      service.executor(0).execute(() -> {
+        try {
+          latch.await();
+        } catch (final InterruptedException ignored) {
+        }
+      });
+      final Response<String> queued = service.completeAsync(0, () -> Thread.currentThread().getName());
+
+      Assertions.assertTrue(service.rebalance());
+      final Response<String> next = service.completeAsync(0, () -> Thread.currentThread().getName());
+      latch.countDown();
+      Assertions.assertEquals("response-shard-1", queued.get(1, TimeUnit.SECONDS));
+      Assertions.assertEquals("response-shard-1", next.get(1, TimeUnit.SECONDS)); //Behind queued task.
+
+      //Slot moves once its tasks are done.
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+      String moved;
+      do {
+        moved = service.completeAsync(0, () -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS);
+      } while (!"response-shard-2".equals(moved) && System.nanoTime() < deadline);
+      Assertions.assertEquals("response-shard-2", moved);
+    } finally {
+      latch.countDown();
+      service.shutdown();
+    }
+  }
+}